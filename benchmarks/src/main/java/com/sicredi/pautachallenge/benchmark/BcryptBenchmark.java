@@ -0,0 +1,48 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sicredi.pautachallenge.utils.BcryptUtils;
+
+/**
+ * Custo do BCrypt no cadastro ({@link BcryptUtils#encryptPassword(String)}) e no login
+ * ({@link BcryptUtils#comparePasswords(String, String)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BcryptBenchmark {
+
+    private static final String PASSWORD = "senha-do-associado";
+
+    private String hashedPassword;
+
+    @Setup
+    public void setUp() {
+        hashedPassword = BcryptUtils.encryptPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String encryptPassword() {
+        return BcryptUtils.encryptPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean comparePasswords() {
+        return BcryptUtils.comparePasswords(PASSWORD, hashedPassword);
+    }
+}
@@ -0,0 +1,53 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.sicredi.pautachallenge.PautaChallenge;
+
+/**
+ * Inicia a aplicação sem servidor web, com o perfil de testes e um banco H2 em memória exclusivo do benchmark.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Inicia com os logs da aplicação em WARN, para que a escrita de logs não domine a medição.
+     */
+    static ConfigurableApplicationContext start(String database) {
+        return start(database, true);
+    }
+
+    /**
+     * @param quietLogging {@code false} mantém a configuração de logs dos perfis ativos, para medir o custo dos logs
+     * @param profiles perfis ativados depois de "test"
+     */
+    static ConfigurableApplicationContext start(String database, boolean quietLogging, String... profiles) {
+        // Argumentos de linha de comando, para prevalecer sobre application-test.properties
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+            "--spring.h2.console.enabled=false",
+            "--pauta.eligibility.client=stub",
+            "--pauta.sections.closing.enabled=false"));
+        if (quietLogging) {
+            args.addAll(List.of(
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.sicredi.pautachallenge=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        }
+        List<String> activeProfiles = new ArrayList<>(List.of("test"));
+        activeProfiles.addAll(List.of(profiles));
+        return new SpringApplicationBuilder(PautaChallenge.class)
+            .profiles(activeProfiles.toArray(String[]::new))
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,34 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Executa os benchmarks com o JMH. Sem {@code -rf}, o resultado é gravado em JSON em {@code target/jmh-result.json},
+ * para que execuções diferentes possam ser comparadas.
+ *
+ * <pre>
+ * mvn -f benchmarks/pom.xml compile exec:exec -Djmh.args="VotesServiceBenchmark"
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (!jmhArgs.contains("-rf")) {
+            jmhArgs.addAll(List.of("-rf", "json"));
+            if (!jmhArgs.contains("-rff")) {
+                jmhArgs.addAll(List.of("-rff", DEFAULT_RESULT_FILE));
+            }
+        }
+        Main.main(jmhArgs.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,101 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sicredi.pautachallenge.domain.dto.SectionPage;
+import com.sicredi.pautachallenge.domain.dto.SectionQuery;
+import com.sicredi.pautachallenge.domain.model.SectionState;
+import com.sicredi.pautachallenge.service.SectionService;
+import com.sicredi.pautachallenge.service.VoteTallyService;
+
+/**
+ * {@link SectionService#getSectionsWithVotes} na primeira e na última página, para diferentes quantidades de seções
+ * e de votos por seção. As linhas são inseridas por JDBC e a contagem em memória é gerada por
+ * {@link VoteTallyService#rebuildFromVotes()}, como na inicialização da aplicação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SectionListingBenchmark {
+
+    private static final int INSERT_BATCH = 5_000;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10", "1000", "100000"})
+    public int sections;
+
+    @Param({"0", "10"})
+    public int votesPerSection;
+
+    private ConfigurableApplicationContext context;
+    private SectionService sectionService;
+    private long lastPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("sections-benchmark");
+        sectionService = context.getBean(SectionService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Timestamp startAt = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < sections; from += INSERT_BATCH) {
+            int to = Math.min(sections, from + INSERT_BATCH);
+            jdbcTemplate.batchUpdate("INSERT INTO sections (name, description, expiration, start_at) VALUES (?, ?, ?, ?)",
+                IntStream.range(from, to)
+                    .mapToObj(i -> new Object[] {"Pauta " + i, "Pauta criada pelo benchmark", 600, startAt})
+                    .toList());
+        }
+
+        List<Long> sectionIds = jdbcTemplate.queryForList("SELECT id FROM sections ORDER BY id", Long.class);
+        lastPageCursor = sectionIds.get(Math.max(0, sectionIds.size() - PAGE_SIZE - 1));
+        long voteId = 0;
+        for (Long sectionId : votesPerSection > 0 ? sectionIds : List.<Long>of()) {
+            long firstId = voteId;
+            jdbcTemplate.batchUpdate("INSERT INTO votes (id, section_id, user_id, vote, status) VALUES (?, ?, ?, ?, 'ABLE_TO_VOTE')",
+                LongStream.range(0, votesPerSection)
+                    .mapToObj(user -> new Object[] {firstId + user + 1, sectionId, user + 1, user % 3 != 0})
+                    .toList());
+            voteId += votesPerSection;
+        }
+        context.getBean(VoteTallyService.class).rebuildFromVotes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SectionPage firstPage() {
+        return sectionService.getSectionsWithVotes(1L, new SectionQuery(null, PAGE_SIZE, SectionState.ALL, null, null));
+    }
+
+    @Benchmark
+    public SectionPage lastPage() {
+        return sectionService.getSectionsWithVotes(1L, new SectionQuery(lastPageCursor, PAGE_SIZE, SectionState.ALL, null, null));
+    }
+}
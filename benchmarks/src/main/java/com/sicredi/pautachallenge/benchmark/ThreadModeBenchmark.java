@@ -0,0 +1,196 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.sicredi.pautachallenge.PautaChallenge;
+import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.service.SessionTokenService;
+
+/**
+ * Comparação de POST /votes e GET /section com threads de plataforma e com threads virtuais.
+ * Mede a aplicação inteira por HTTP, por isso não usa o JMH; execute com:
+ *
+ * <pre>
+ * mvn -f benchmarks/pom.xml compile exec:exec -Pthread-mode
+ * mvn -f benchmarks/pom.xml compile exec:exec -Pthread-mode -Dthread-mode.args="-Dbenchmark.connections=200"
+ * </pre>
+ *
+ * As duas execuções usam o mesmo tamanho de pool de conexões ({@code benchmark.pool-size}) e o mesmo número
+ * de conexões simultâneas ({@code benchmark.connections}). Por padrão o banco é o H2 em memória, que quase não
+ * bloqueia; para medir a espera real de I/O, aponte para o PostgreSQL com {@code -Dbenchmark.datasource.url=...}
+ * (e {@code benchmark.datasource.username}/{@code benchmark.datasource.password}).
+ */
+public final class ThreadModeBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeBenchmark.class);
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 400);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 10);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("benchmark.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("benchmark.duration", "PT20S"));
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ThreadModeBenchmark benchmark = new ThreadModeBenchmark();
+        Map<String, List<Result>> results = new LinkedHashMap<>();
+        results.put("platform", benchmark.run(false));
+        results.put("virtual", benchmark.run(true));
+
+        log.info("Conexões: {}, pool de conexões: {}, duração: {}", CONNECTIONS, POOL_SIZE, DURATION);
+        log.info(String.format("%-10s %-14s %10s %10s %10s %10s %8s", "modo", "endpoint", "req/s", "p50 ms", "p99 ms", "máx ms", "erros"));
+        results.forEach((mode, modeResults) -> modeResults.forEach(result ->
+            log.info(String.format("%-10s %-14s %10.0f %10.1f %10.1f %10.1f %8d", mode, result.endpoint(), result.throughput(),
+                result.percentile(0.50), result.percentile(0.99), result.percentile(1.0), result.errors()))));
+    }
+
+    private List<Result> run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            SessionTokenService sessionTokenService = context.getBean(SessionTokenService.class);
+            String listToken = token(sessionTokenService, 1L);
+            long sectionId = createSection(baseUrl, listToken);
+            AtomicLong userIds = new AtomicLong();
+
+            Supplier<HttpRequest> vote = () -> HttpRequest.newBuilder(URI.create(baseUrl + "/votes"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token(sessionTokenService, userIds.incrementAndGet()))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"sectionId\":" + sectionId + ",\"vote\":true}"))
+                .build();
+            Supplier<HttpRequest> list = () -> HttpRequest.newBuilder(URI.create(baseUrl + "/section?limit=50"))
+                .header("Authorization", "Bearer " + listToken)
+                .GET()
+                .build();
+
+            Map<String, Supplier<HttpRequest>> endpoints = new LinkedHashMap<>();
+            endpoints.put("POST /votes", vote);
+            endpoints.put("GET /section", list);
+
+            List<Result> results = new ArrayList<>();
+            for (Map.Entry<String, Supplier<HttpRequest>> endpoint : endpoints.entrySet()) {
+                load(endpoint.getKey(), endpoint.getValue(), WARMUP);
+                results.add(load(endpoint.getKey(), endpoint.getValue(), DURATION));
+            }
+            return results;
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtualThreads) {
+        String mode = virtualThreads ? "virtual" : "platform";
+        // Argumentos de linha de comando, para prevalecer sobre application-test.properties
+        return new SpringApplicationBuilder(PautaChallenge.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.datasource.url=" + System.getProperty("benchmark.datasource.url", "jdbc:h2:mem:benchmark-" + mode),
+                "--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""),
+                "--spring.jpa.show-sql=false",
+                "--pauta.eligibility.client=stub",
+                "--logging.level.com.sicredi.pautachallenge=WARN",
+                "--logging.level.com.sicredi.pautachallenge.benchmark=INFO",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+    }
+
+    /**
+     * Token de sessão emitido direto pelo serviço, para que o BCrypt do login não entre na medição.
+     */
+    private static String token(SessionTokenService sessionTokenService, long userId) {
+        return sessionTokenService.issue(
+            new UserResponseDTO(userId, "Associado " + userId, null, "associado" + userId + "@example.com")).token();
+    }
+
+    private long createSection(String baseUrl, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/section"))
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Bearer " + token)
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"name\":\"Benchmark\",\"description\":\"Pauta criada pelo benchmark\",\"expiration\":60}"))
+            .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return new ObjectMapper().readTree(body).get("id").asLong();
+    }
+
+    private Result load(String endpoint, Supplier<HttpRequest> requests, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<long[]> latencies = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        try (ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                long[] samples = new long[1 << 16];
+                latencies.add(samples);
+                connections.submit(() -> {
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = requests.get();
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status >= 500) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count < samples.length - 1) {
+                            samples[++count] = System.nanoTime() - start;
+                        }
+                    }
+                    samples[0] = count;
+                    return null;
+                });
+            }
+        }
+        long[] merged = latencies.stream()
+            .flatMapToLong(samples -> Arrays.stream(samples, 1, (int) samples[0] + 1))
+            .sorted()
+            .toArray();
+        return new Result(endpoint, merged, errors.get(), duration);
+    }
+
+    private record Result(String endpoint, long[] sortedLatencies, long errors, Duration duration) {
+
+        double throughput() {
+            return sortedLatencies.length / (duration.toMillis() / 1000.0);
+        }
+
+        double percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sicredi.pautachallenge.domain.dto.UserDTO;
+import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+import com.sicredi.pautachallenge.infra.mapper.UserMapper;
+
+/**
+ * Conversões do {@link UserMapper}, que registram logs em TRACE a cada chamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+    private final UserDTO userDTO = new UserDTO("João da Silva", "12345678909", "senha-do-associado", "joao@example.com");
+    private final UserEntity userEntity = new UserEntity(1L, "João da Silva", "joao@example.com", "12345678909", "hash");
+
+    @Benchmark
+    public UserEntity toEntity() {
+        return userMapper.toEntity(userDTO);
+    }
+
+    @Benchmark
+    public UserResponseDTO toResponseDTO() {
+        return userMapper.toResponseDTO(userEntity);
+    }
+
+    @Benchmark
+    public UserDTO toDTO() {
+        return userMapper.toDTO(userEntity);
+    }
+
+    @Benchmark
+    public UserEntity updateEntityFromDTO() {
+        return userMapper.updateEntityFromDTO(userEntity, userDTO);
+    }
+}
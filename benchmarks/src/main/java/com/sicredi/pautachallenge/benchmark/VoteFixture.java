@@ -0,0 +1,52 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.sicredi.pautachallenge.domain.dto.SectionDTO;
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+import com.sicredi.pautachallenge.repository.UserRepository;
+import com.sicredi.pautachallenge.service.SectionService;
+
+/**
+ * Usuários e seções abertas para benchmarks de votação. Cada {@link #nextVote()} devolve um par inédito de usuário
+ * e seção, de forma que todo voto percorre as verificações e a gravação; os pares se esgotam após
+ * {@code users * sections} votos.
+ */
+final class VoteFixture {
+
+    private final long[] userIds;
+    private final long[] sectionIds;
+    private final AtomicLong sequence = new AtomicLong();
+
+    VoteFixture(ConfigurableApplicationContext context, int users, int sections) {
+        List<UserEntity> entities = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            entities.add(new UserEntity(null, "Associado " + i, "associado" + i + "@example.com",
+                    String.format("%011d", i), "hash"));
+        }
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        userRepository.insertBatchIfAbsent(entities);
+        userIds = userRepository.findAll().stream().mapToLong(UserEntity::getId).toArray();
+
+        SectionService sectionService = context.getBean(SectionService.class);
+        sectionIds = new long[sections];
+        for (int i = 0; i < sections; i++) {
+            sectionIds[i] = sectionService.createSection(new SectionDTO("Pauta " + i, "Pauta criada pelo benchmark", 600)).getId();
+        }
+    }
+
+    VoteDTO nextVote() {
+        long n = sequence.getAndIncrement();
+        if (n >= (long) userIds.length * sectionIds.length) {
+            throw new IllegalStateException("Pares de usuário e seção esgotados; reduza a duração da medição");
+        }
+        long userId = userIds[(int) (n % userIds.length)];
+        long sectionId = sectionIds[(int) (n / userIds.length)];
+        return new VoteDTO(sectionId, userId, (n & 1) == 0);
+    }
+}
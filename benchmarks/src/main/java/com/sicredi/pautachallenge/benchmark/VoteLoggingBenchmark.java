@@ -0,0 +1,63 @@
+package com.sicredi.pautachallenge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.service.VotesService;
+
+/**
+ * Vazão de {@link VotesService#createVote} com a configuração de logs de desenvolvimento (DEBUG, SQL e appenders
+ * síncronos) e com o perfil prod (INFO, JSON e appenders assíncronos). Os logs são gravados em {@code logs/},
+ * relativo ao diretório de execução.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class VoteLoggingBenchmark {
+
+    @Param({"dev", "prod"})
+    public String logging;
+
+    private ConfigurableApplicationContext context;
+    private VotesService votesService;
+    private VoteFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "prod".equals(logging)
+            ? BenchmarkApplication.start("logging-benchmark", false, "prod")
+            : BenchmarkApplication.start("logging-benchmark", false);
+        votesService = context.getBean(VotesService.class);
+        fixture = new VoteFixture(context, 2_000, 1_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Votes createVote() {
+        return votesService.createVote(fixture.nextVote());
+    }
+}
@@ -0,0 +1,32 @@
+package com.sicredi.pautachallenge.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Taxa de chegada de requisições (por segundo) ao longo do teste.
+ * <ul>
+ *   <li>{@code constant}: {@code peakRate} durante todo o teste;</li>
+ *   <li>{@code ramp}: cresce linearmente de {@code baseRate} a {@code peakRate};</li>
+ *   <li>{@code spike}: começa em {@code peakRate}, como na abertura de uma seção, e decai exponencialmente
+ *       até {@code baseRate}, com a taxa caindo pela metade a cada {@code halfLife}.</li>
+ * </ul>
+ */
+interface ArrivalCurve {
+
+    /**
+     * @param elapsed tempo desde o início do teste
+     * @return requisições por segundo nesse instante; sempre maior que zero
+     */
+    double rateAt(Duration elapsed);
+
+    static ArrivalCurve of(String name, double baseRate, double peakRate, Duration duration, Duration halfLife) {
+        double base = Math.max(1, baseRate);
+        double peak = Math.max(base, peakRate);
+        return switch (name) {
+            case "constant" -> elapsed -> peak;
+            case "ramp" -> elapsed -> base + (peak - base) * Math.min(1.0, elapsed.toNanos() / (double) duration.toNanos());
+            case "spike" -> elapsed -> base + (peak - base) * Math.pow(0.5, elapsed.toNanos() / (double) halfLife.toNanos());
+            default -> throw new IllegalArgumentException("Curva de chegada desconhecida: " + name + " (use constant, ramp ou spike)");
+        };
+    }
+}
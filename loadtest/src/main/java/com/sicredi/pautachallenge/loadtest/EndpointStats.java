@@ -0,0 +1,78 @@
+package com.sicredi.pautachallenge.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latências e respostas de um endpoint. A latência é medida a partir do instante em que a requisição deveria
+ * ter sido enviada pela curva de chegada, de forma que atrasos do próprio gerador não escondem filas no servidor.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(2);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_LATENCY, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long intendedStart, int status) {
+        recorder.recordValue(Math.min(MAX_LATENCY, System.nanoTime() - intendedStart));
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    void recordFailure(long intendedStart) {
+        recorder.recordValue(Math.min(MAX_LATENCY, System.nanoTime() - intendedStart));
+        failures.increment();
+    }
+
+    /**
+     * Descarta o que foi registrado até agora, ao fim do aquecimento.
+     */
+    void reset() {
+        recorder.reset();
+        success.reset();
+        clientErrors.reset();
+        serverErrors.reset();
+        failures.reset();
+    }
+
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long success() {
+        return success.sum();
+    }
+
+    long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sicredi.pautachallenge.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Relatórios por endpoint: a distribuição completa de percentis em {@code <endpoint>.hgrm} (em milissegundos,
+ * legível pelo HdrHistogram plotter) e uma linha por endpoint em {@code summary.csv}, também impressa no console.
+ */
+final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String HEADER = "endpoint,count,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,success,client_errors,server_errors,failures";
+
+    private final Path output;
+    private final Duration duration;
+
+    LoadReport(Path output, Duration duration) {
+        this.output = output;
+        this.duration = duration;
+    }
+
+    void write(List<EndpointStats> endpoints) throws IOException {
+        Files.createDirectories(output);
+        List<String> lines = new ArrayList<>(List.of(HEADER));
+        System.out.printf("%n%-14s %9s %9s %9s %9s %9s %9s %9s %8s %8s %8s %8s%n", "endpoint", "total", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "máx ms", "2xx/3xx", "4xx", "5xx", "falhas");
+        for (EndpointStats endpoint : endpoints) {
+            Histogram histogram = endpoint.histogram();
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(output.resolve(fileName(endpoint) + ".hgrm")))) {
+                histogram.outputPercentileDistribution(hgrm, NANOS_PER_MILLI);
+            }
+            double throughput = histogram.getTotalCount() / (duration.toMillis() / 1000.0);
+            System.out.printf(Locale.ROOT, "%-14s %9d %9.0f %9.1f %9.1f %9.1f %9.1f %9.1f %8d %8d %8d %8d%n", endpoint.name(),
+                    histogram.getTotalCount(), throughput, millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                    millis(histogram, 99.9), histogram.getMaxValue() / NANOS_PER_MILLI,
+                    endpoint.success(), endpoint.clientErrors(), endpoint.serverErrors(), endpoint.failures());
+            lines.add(String.format(Locale.ROOT, "%s,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d,%d,%d", endpoint.name(),
+                    histogram.getTotalCount(), throughput, millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                    millis(histogram, 99.9), histogram.getMaxValue() / NANOS_PER_MILLI,
+                    endpoint.success(), endpoint.clientErrors(), endpoint.serverErrors(), endpoint.failures()));
+        }
+        Files.write(output.resolve("summary.csv"), lines);
+        System.out.printf("%nRelatórios gravados em %s%n", output.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static String fileName(EndpointStats endpoint) {
+        return endpoint.name().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+    }
+}
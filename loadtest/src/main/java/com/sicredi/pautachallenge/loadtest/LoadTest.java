@@ -0,0 +1,205 @@
+package com.sicredi.pautachallenge.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.sicredi.pautachallenge.PautaChallenge;
+import com.sicredi.pautachallenge.domain.dto.SectionDTO;
+import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+import com.sicredi.pautachallenge.repository.UserRepository;
+import com.sicredi.pautachallenge.service.SectionService;
+import com.sicredi.pautachallenge.service.SessionTokenService;
+import com.sicredi.pautachallenge.utils.BcryptUtils;
+
+/**
+ * Simula a abertura de seções em uma assembleia: inicia a aplicação com H2 em memória e o perfil prod, cadastra
+ * associados e seções e dispara POST /votes, GET /section e POST /auth seguindo uma {@link ArrivalCurve}.
+ * Os tokens de sessão usados em POST /votes e GET /section são emitidos no cadastro, sem passar pelo login.
+ * O modelo é aberto: as requisições saem no instante determinado pela curva, sem esperar as anteriores.
+ * As latências por endpoint são gravadas em {@code output} (histogramas .hgrm e summary.csv).
+ *
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -f loadtest/pom.xml compile exec:exec -Dloadtest.args="--curve=spike --peak-rate=3000 --duration=PT60S"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final int SEED_BATCH = 1_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LoadTestConfig config;
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    private final EndpointStats votes = new EndpointStats("POST /votes");
+    private final EndpointStats sections = new EndpointStats("GET /section");
+    private final EndpointStats auth = new EndpointStats("POST /auth");
+    private final AtomicLong voteSequence = new AtomicLong();
+
+    private String baseUrl;
+    private long[] userIds;
+    private String[] userTokens;
+    private long[] sectionIds;
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        new LoadTest(config).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        try (ConfigurableApplicationContext context = start()) {
+            baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            seed(context);
+
+            System.out.printf("Aquecimento: %s a %.0f req/s%n", config.warmup(), config.baseRate());
+            fire(ArrivalCurve.of("constant", config.baseRate(), config.baseRate(), config.warmup(), config.halfLife()),
+                    config.warmup());
+            List.of(votes, sections, auth).forEach(EndpointStats::reset);
+
+            System.out.printf("Carga: curva %s, %.0f a %.0f req/s por %s%n",
+                    config.curve(), config.baseRate(), config.peakRate(), config.duration());
+            fire(config.arrivalCurve(), config.duration());
+
+            new LoadReport(config.output(), config.duration()).write(List.of(votes, sections, auth));
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        // Argumentos de linha de comando, para prevalecer sobre application-test.properties
+        return new SpringApplicationBuilder(PautaChallenge.class)
+            .profiles("test", "prod")
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.h2.console.enabled=false",
+                "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                "--pauta.auth.token.ttl=1d",
+                "--pauta.eligibility.client=stub",
+                "--pauta.sections.closing.enabled=false");
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        System.out.printf("Cadastrando %d associados e %d seções%n", config.users(), config.sections());
+        String password = BcryptUtils.encryptPassword(LoadTestConfig.PASSWORD);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        for (int from = 0; from < config.users(); from += SEED_BATCH) {
+            List<UserEntity> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < Math.min(config.users(), from + SEED_BATCH); i++) {
+                batch.add(new UserEntity(null, "Associado " + i, email(i), String.format("%011d", i), password));
+            }
+            userRepository.insertBatchIfAbsent(batch);
+        }
+        List<UserEntity> users = userRepository.findAll().stream().sorted(Comparator.comparing(UserEntity::getId)).toList();
+        SessionTokenService sessionTokenService = context.getBean(SessionTokenService.class);
+        userIds = users.stream().mapToLong(UserEntity::getId).toArray();
+        userTokens = users.stream()
+            .map(user -> sessionTokenService.issue(
+                new UserResponseDTO(user.getId(), user.getName(), user.getCpf(), user.getEmail())).token())
+            .toArray(String[]::new);
+
+        SectionService sectionService = context.getBean(SectionService.class);
+        sectionIds = new long[config.sections()];
+        for (int i = 0; i < config.sections(); i++) {
+            sectionIds[i] = sectionService.createSection(
+                new SectionDTO("Assembleia " + i, "Pauta aberta pelo teste de carga", 24 * 60)).getId();
+        }
+    }
+
+    /**
+     * Dispara requisições pela curva durante {@code duration} e aguarda as respostas pendentes.
+     */
+    private void fire(ArrivalCurve curve, Duration duration) {
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            long end = start + duration.toNanos();
+            long next = start;
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = next;
+                requests.execute(() -> send(intendedStart));
+                next += (long) (1_000_000_000L / curve.rateAt(Duration.ofNanos(next - start)));
+            }
+        }
+    }
+
+    private void send(long intendedStart) {
+        double pick = ThreadLocalRandom.current().nextDouble(config.voteWeight() + config.sectionWeight() + config.authWeight());
+        EndpointStats stats;
+        HttpRequest request;
+        if (pick < config.voteWeight()) {
+            stats = votes;
+            request = vote();
+        } else if (pick < config.voteWeight() + config.sectionWeight()) {
+            stats = sections;
+            request = HttpRequest.newBuilder(URI.create(baseUrl + "/section?limit=50"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + userTokens[ThreadLocalRandom.current().nextInt(userTokens.length)])
+                .GET()
+                .build();
+        } else {
+            stats = auth;
+            int user = ThreadLocalRandom.current().nextInt(userIds.length);
+            request = json("/auth", "{\"email\":\"" + email(user) + "\",\"password\":\"" + LoadTestConfig.PASSWORD + "\"}").build();
+        }
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            stats.record(intendedStart, status);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.recordFailure(intendedStart);
+        } catch (Exception e) {
+            stats.recordFailure(intendedStart);
+        }
+    }
+
+    /**
+     * Cada associado vota uma vez em cada seção; depois de todas as combinações, os votos passam a ser duplicados (400).
+     */
+    private HttpRequest vote() {
+        long n = voteSequence.getAndIncrement();
+        int user = (int) (n % userIds.length);
+        long sectionId = sectionIds[(int) ((n / userIds.length) % sectionIds.length)];
+        return json("/votes", "{\"sectionId\":" + sectionId + ",\"vote\":" + (n % 3 != 0) + "}")
+            .header("Authorization", "Bearer " + userTokens[user])
+            .build();
+    }
+
+    private HttpRequest.Builder json(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static String email(int index) {
+        return "associado" + index + "@example.com";
+    }
+}
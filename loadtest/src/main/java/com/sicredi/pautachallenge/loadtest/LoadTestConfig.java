@@ -0,0 +1,64 @@
+package com.sicredi.pautachallenge.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste, lidos de argumentos {@code --nome=valor}.
+ *
+ * @param users associados cadastrados antes do teste; cada um vota uma vez em cada seção aberta
+ * @param sections seções abertas no início do teste
+ * @param voteWeight fração das requisições que são POST /votes; as demais são divididas por {@code sectionWeight}
+ *                   e {@code authWeight}
+ * @param output diretório dos relatórios
+ */
+record LoadTestConfig(
+    String curve,
+    double baseRate,
+    double peakRate,
+    Duration duration,
+    Duration halfLife,
+    Duration warmup,
+    int users,
+    int sections,
+    double voteWeight,
+    double sectionWeight,
+    double authWeight,
+    boolean virtualThreads,
+    Path output
+) {
+
+    static final String PASSWORD = "senha-carga";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (use --nome=valor)");
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        LoadTestConfig config = new LoadTestConfig(
+            values.getOrDefault("curve", "spike"),
+            Double.parseDouble(values.getOrDefault("base-rate", "100")),
+            Double.parseDouble(values.getOrDefault("peak-rate", "2000")),
+            Duration.parse(values.getOrDefault("duration", "PT60S")),
+            Duration.parse(values.getOrDefault("half-life", "PT10S")),
+            Duration.parse(values.getOrDefault("warmup", "PT5S")),
+            Integer.parseInt(values.getOrDefault("users", "20000")),
+            Integer.parseInt(values.getOrDefault("sections", "20")),
+            Double.parseDouble(values.getOrDefault("vote-weight", "0.85")),
+            Double.parseDouble(values.getOrDefault("section-weight", "0.10")),
+            Double.parseDouble(values.getOrDefault("auth-weight", "0.05")),
+            Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+            Path.of(values.getOrDefault("output", "target/loadtest")));
+        config.arrivalCurve();
+        return config;
+    }
+
+    ArrivalCurve arrivalCurve() {
+        return ArrivalCurve.of(curve, baseRate, peakRate, duration, halfLife);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param client implementação usada para verificar o CPF: "http" (padrão) ou "stub" (local, para desenvolvimento e testes)
+ * @param url endereço base do serviço de elegibilidade, consultado em {@code GET {url}/users/{cpf}}
+ * @param cacheTtl tempo que a decisão de um usuário é reaproveitada sem consultar o serviço
+ * @param failureThreshold falhas consecutivas que abrem o circuito
+ * @param openDuration tempo que o circuito permanece aberto antes de uma nova tentativa
+ * @param threads threads que consultam o serviço de elegibilidade fora da thread da requisição
+ * @param queueCapacity consultas aguardando uma thread; com a fila cheia o voto é recusado com 503
+ * @param stubUnableCpfs CPFs recusados pela implementação local; os demais podem votar
+ */
+@ConfigurationProperties(prefix = "pauta.eligibility")
+public record EligibilityProperties(
+    @DefaultValue("http") String client,
+    String url,
+    @DefaultValue("500ms") Duration connectTimeout,
+    @DefaultValue("1s") Duration readTimeout,
+    @DefaultValue("10m") Duration cacheTtl,
+    @DefaultValue("100000") int cacheMaxSize,
+    @DefaultValue("5") int failureThreshold,
+    @DefaultValue("30s") Duration openDuration,
+    @DefaultValue("16") int threads,
+    @DefaultValue("256") int queueCapacity,
+    @DefaultValue List<String> stubUnableCpfs
+) {}
@@ -0,0 +1,22 @@
+package com.sicredi.pautachallenge.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
+
+/**
+ * @param emails emails dos usuários operadores; o token de sessão desses usuários dá acesso às rotas administrativas
+ *               e permite registrar votos em lote em nome de outros associados
+ */
+@ConfigurationProperties(prefix = "pauta.auth.operators")
+public record OperatorProperties(
+    @DefaultValue List<String> emails
+) {
+    public boolean isOperator(AuthenticatedUser user) {
+        return user != null && user.email() != null
+                && emails.stream().anyMatch(email -> email.trim().equalsIgnoreCase(user.email()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param threads quantidade de threads de criptografia; 0 usa a quantidade de processadores
+ */
+@ConfigurationProperties(prefix = "pauta.auth.hashing")
+public record PasswordHashingProperties(
+    @DefaultValue("0") int threads,
+    @DefaultValue("64") int queueCapacity,
+    @DefaultValue("1s") Duration retryAfter
+) {
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
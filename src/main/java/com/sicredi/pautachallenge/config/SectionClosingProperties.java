@@ -0,0 +1,15 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "pauta.sections.closing")
+public record SectionClosingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10s") Duration interval,
+    @DefaultValue("5s") Duration grace,
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("500") int batchSize
+) {}
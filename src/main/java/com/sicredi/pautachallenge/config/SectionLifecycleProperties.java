@@ -0,0 +1,14 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "pauta.sections.lifecycle")
+public record SectionLifecycleProperties(
+    @DefaultValue("10000") int maxSize,
+    @DefaultValue("100ms") Duration tick,
+    @DefaultValue("1024") int wheelSize,
+    @DefaultValue("10m") Duration closedRetention
+) {}
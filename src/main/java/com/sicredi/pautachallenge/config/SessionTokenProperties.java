@@ -0,0 +1,18 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param secret chave HMAC com pelo menos 32 bytes; obrigatória fora dos perfis dev e test, onde vazia gera uma chave
+ *               aleatória a cada inicialização
+ * @param ttl validade dos tokens emitidos
+ */
+@ConfigurationProperties(prefix = "pauta.auth.token")
+public record SessionTokenProperties(
+    @DefaultValue("") String secret,
+    @DefaultValue("15m") Duration ttl,
+    @DefaultValue("pauta-challenge") String issuer
+) {}
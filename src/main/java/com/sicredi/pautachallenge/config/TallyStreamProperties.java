@@ -0,0 +1,18 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param senderThreads threads que escrevem os eventos nas conexões SSE
+ * @param maxLag tempo máximo de um envio em andamento; clientes mais lentos são desconectados
+ */
+@ConfigurationProperties(prefix = "pauta.sections.stream")
+public record TallyStreamProperties(
+    @DefaultValue("1s") Duration interval,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("4") int senderThreads,
+    @DefaultValue("10s") Duration maxLag
+) {}
@@ -0,0 +1,16 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param ttl tempo máximo que um usuário permanece em cache; limita a defasagem entre instâncias da aplicação
+ */
+@ConfigurationProperties(prefix = "pauta.auth.user-cache")
+public record UserCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("5m") Duration ttl,
+    @DefaultValue("10000") int maxSize
+) {}
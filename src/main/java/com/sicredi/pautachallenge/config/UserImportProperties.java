@@ -0,0 +1,21 @@
+package com.sicredi.pautachallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param batchSize linhas criptografadas e gravadas por lote; limita a memória usada pela importação
+ * @param parallelism senhas da importação em criptografia ao mesmo tempo no pool do {@code PasswordHasher};
+ *                    0 usa um quarto dos processadores, no mínimo 1
+ * @param maxErrors linhas com erro detalhadas no relatório; as demais são apenas contadas
+ */
+@ConfigurationProperties(prefix = "pauta.users.import")
+public record UserImportProperties(
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("0") int parallelism,
+    @DefaultValue("1000") int maxErrors
+) {
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+    }
+}
@@ -0,0 +1,9 @@
+package com.sicredi.pautachallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "pauta.votes.batch")
+public record VoteBatchProperties(
+    @DefaultValue("1000") int maxSize
+) {}
@@ -0,0 +1,14 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param timeout prazo para o conjunto de verificações de um voto (seção, elegibilidade e voto duplicado)
+ */
+@ConfigurationProperties(prefix = "pauta.votes.check")
+public record VoteCheckProperties(
+    @DefaultValue("2s") Duration timeout
+) {}
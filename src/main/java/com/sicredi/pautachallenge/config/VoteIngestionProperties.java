@@ -0,0 +1,15 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "pauta.votes.ingestion")
+public record VoteIngestionProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("20ms") Duration linger,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("10m") Duration receiptRetention
+) {}
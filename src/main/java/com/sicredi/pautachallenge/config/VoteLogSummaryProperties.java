@@ -0,0 +1,15 @@
+package com.sicredi.pautachallenge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param interval intervalo entre as linhas de resumo; intervalos sem votos não geram linha
+ */
+@ConfigurationProperties(prefix = "pauta.votes.log-summary")
+public record VoteLogSummaryProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1m") Duration interval
+) {}
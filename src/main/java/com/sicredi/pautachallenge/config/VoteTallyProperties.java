@@ -0,0 +1,13 @@
+package com.sicredi.pautachallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param rebuild regenera section_tally a partir da tabela de votos na inicialização, antes de a aplicação
+ *                receber votos; deve ser desligado novamente após a regeneração
+ */
+@ConfigurationProperties(prefix = "pauta.votes.tally")
+public record VoteTallyProperties(
+    @DefaultValue("false") boolean rebuild
+) {}
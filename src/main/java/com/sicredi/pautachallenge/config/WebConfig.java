@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.sicredi.pautachallenge.controller.SectionController;
+
 @Slf4j
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -15,7 +17,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/**")
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "HEAD", "TRACE", "CONNECT")
-                .allowedHeaders("*");
+                .allowedHeaders("*")
+                .exposedHeaders(SectionController.NEXT_CURSOR_HEADER);
         log.debug("Configuração CORS aplicada com sucesso");
     }
 }
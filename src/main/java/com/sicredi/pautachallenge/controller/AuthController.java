@@ -12,14 +12,22 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sicredi.pautachallenge.domain.interfaces.UserLoginRequest;
+import com.sicredi.pautachallenge.domain.dto.AuthResponseDTO;
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
 import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.exception.AuthenticationException;
+import com.sicredi.pautachallenge.infra.TokenAuthenticationFilter;
+import com.sicredi.pautachallenge.service.SessionTokenService;
 import com.sicredi.pautachallenge.service.UserService;
 
+import java.util.concurrent.CompletableFuture;
+
 @CrossOrigin(origins = "http://localhost:5173")
 @RestController
 @RequestMapping("/auth")
@@ -28,11 +36,13 @@ import com.sicredi.pautachallenge.service.UserService;
 public class AuthController {
 
     private final UserService userService;
+    private final SessionTokenService sessionTokenService;
 
     @PostMapping
     @Operation(
         summary = "Autenticar usuário",
-        description = "Realiza a autenticação de um usuário no sistema"
+        description = "Realiza a autenticação de um usuário no sistema e emite um token de sessão. " +
+                      "O token é obrigatório no cabeçalho 'Authorization: Bearer <token>' para votar e consultar pautas"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -40,14 +50,17 @@ public class AuthController {
             description = "Autenticação realizada com sucesso",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = UserResponseDTO.class),
+                schema = @Schema(implementation = AuthResponseDTO.class),
                 examples = @ExampleObject(
                     name = "Login bem-sucedido",
                     value = """
                         {
                           "id": 1,
                           "name": "João Silva",
-                          "email": "joao@example.com"
+                          "email": "joao@example.com",
+                          "token": "eyJhbGciOiJIUzI1NiJ9...",
+                          "tokenType": "Bearer",
+                          "expiresIn": 900
                         }
                         """
                 )
@@ -86,9 +99,26 @@ public class AuthController {
                         """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Fila de criptografia de senhas cheia; tente novamente após o tempo indicado em Retry-After",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Sobrecarga",
+                    value = """
+                        {
+                          "message": "Muitas requisições de autenticação. Tente novamente em instantes.",
+                          "error": "SERVICE_OVERLOADED",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
         )
     })
-    public UserResponseDTO login(
+    public CompletableFuture<AuthResponseDTO> login(
         @Parameter(
             description = "Credenciais de login",
             required = true,
@@ -106,6 +136,48 @@ public class AuthController {
         )
         @Valid @RequestBody UserLoginRequest userBody
     ) {
-        return userService.login(userBody);
+        return userService.login(userBody).thenApply(sessionTokenService::issue);
+    }
+
+    @PostMapping("/refresh")
+    @Operation(
+        summary = "Renovar token de sessão",
+        description = "Emite um novo token a partir de um token válido enviado no cabeçalho Authorization, sem reenviar a senha"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Token renovado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AuthResponseDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Token ausente, inválido ou expirado",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Token expirado",
+                    value = """
+                        {
+                          "message": "Token inválido ou expirado",
+                          "error": "AUTHENTICATION_ERROR",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    public AuthResponseDTO refresh(
+        @Parameter(hidden = true)
+        @RequestAttribute(name = TokenAuthenticationFilter.AUTHENTICATED_USER, required = false) AuthenticatedUser user
+    ) {
+        if (user == null) {
+            throw new AuthenticationException("Token de sessão ausente");
+        }
+        return sessionTokenService.issue(userService.findUserById(user.id()));
     }
 }
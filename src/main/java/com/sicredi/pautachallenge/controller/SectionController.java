@@ -2,49 +2,83 @@ package com.sicredi.pautachallenge.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
 import com.sicredi.pautachallenge.domain.dto.SectionDTO;
+import com.sicredi.pautachallenge.domain.dto.SectionPage;
+import com.sicredi.pautachallenge.domain.dto.SectionQuery;
+import com.sicredi.pautachallenge.domain.dto.SectionTallyEvent;
 import com.sicredi.pautachallenge.domain.interfaces.SectionWithVotesCount;
 import com.sicredi.pautachallenge.domain.model.Section;
+import com.sicredi.pautachallenge.domain.model.SectionState;
+import com.sicredi.pautachallenge.infra.TokenAuthenticationFilter;
 import com.sicredi.pautachallenge.service.SectionService;
+import com.sicredi.pautachallenge.service.TallyBroadcaster;
 
-@CrossOrigin(origins = "http://localhost:5173")
+@CrossOrigin(origins = "http://localhost:5173", exposedHeaders = SectionController.NEXT_CURSOR_HEADER)
 @RestController
 @RequestMapping("/section")
 @RequiredArgsConstructor
 @Tag(name = "Pautas", description = "Endpoints para gerenciamento de pautas e consulta de votos")
 public class SectionController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final SectionService sectionService;
+    private final TallyBroadcaster tallyBroadcaster;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @Operation(
         summary = "Listar pautas",
-        description = "Lista todas as pautas com contagem de votos para um usuário específico"
+        description = "Lista uma página de pautas, ordenadas por id, com contagem de votos e indicação de voto do usuário do token de sessão. " +
+            "Quando houver mais pautas, o cabeçalho X-Next-Cursor traz o valor a ser enviado em 'after' para buscar a próxima página"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Lista de pautas retornada com sucesso",
+            description = "Página de pautas retornada com sucesso",
+            headers = @Header(
+                name = NEXT_CURSOR_HEADER,
+                description = "Cursor da próxima página (ausente na última página)",
+                schema = @Schema(type = "integer", format = "int64")
+            ),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = SectionWithVotesCount.class),
@@ -60,23 +94,134 @@ public class SectionController {
                             "votesTrue": 3,
                             "votesFalse": 2,
                             "hasVoted": true,
-                            "isExpired": false
+                            "isExpired": false,
+                            "status": "OPEN"
                           }
                         ]
                         """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Parâmetros de paginação inválidos",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Erro de validação",
+                    value = """
+                        {
+                          "message": "O limite deve estar entre 1 e 200",
+                          "error": "VALIDATION_ERROR",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
         )
     })
-    public List<SectionWithVotesCount> getAllSections(
-        @Parameter(
-            description = "ID do usuário para verificar se já votou",
-            required = true,
-            example = "1"
+    public ResponseEntity<List<SectionWithVotesCount>> getAllSections(
+        @Parameter(hidden = true)
+        @RequestAttribute(name = TokenAuthenticationFilter.AUTHENTICATED_USER) AuthenticatedUser user,
+        @Parameter(description = "Cursor: id da última pauta da página anterior", example = "50")
+        @RequestParam(required = false) Long after,
+        @Parameter(description = "Quantidade máxima de pautas na página (1 a 200)", example = "50")
+        @RequestParam(defaultValue = "50") int limit,
+        @Parameter(description = "Situação das pautas", example = "OPEN")
+        @RequestParam(defaultValue = "ALL") SectionState state,
+        @Parameter(description = "Início (inclusivo) da janela de criação", example = "2025-08-01T00:00:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @Parameter(description = "Fim (exclusivo) da janela de criação", example = "2025-09-01T00:00:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        SectionPage page = sectionService.getSectionsWithVotes(user.id(), new SectionQuery(after, limit, state, from, to));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(page.sections());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Exportar pautas",
+        description = "Transmite todas as pautas em JSON delimitado por linha (uma pauta por linha), " +
+            "à medida que são lidas do banco. Selecionado com o cabeçalho 'Accept: application/x-ndjson'"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Pautas transmitidas com sucesso",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = SectionWithVotesCount.class),
+                examples = @ExampleObject(
+                    name = "Pautas",
+                    value = """
+                        {"id":1,"name":"Pauta Importante","description":"Descrição da pauta","totalVotes":5,"votesTrue":3,"votesFalse":2,"hasVoted":true,"isExpired":false,"status":"OPEN"}
+                        {"id":2,"name":"Outra Pauta","description":"Descrição da pauta","totalVotes":0,"votesTrue":0,"votesFalse":0,"hasVoted":false,"isExpired":true,"status":"CLOSED"}
+                        """
+                )
+            )
         )
-        @RequestParam Long userId
+    })
+    public ResponseEntity<StreamingResponseBody> streamSections(
+        @Parameter(hidden = true)
+        @RequestAttribute(name = TokenAuthenticationFilter.AUTHENTICATED_USER) AuthenticatedUser user
+    ) {
+        StreamingResponseBody body = outputStream -> writeNdjson(user.id(), outputStream);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Acompanhar contagem de votos",
+        description = "Abre uma conexão Server-Sent Events que envia a contagem de votos da pauta sempre que ela muda, " +
+            "no máximo uma vez por intervalo. A conexão é encerrada após o resultado final, quando a pauta expira"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Conexão aberta",
+            content = @Content(
+                mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(implementation = SectionTallyEvent.class),
+                examples = @ExampleObject(
+                    name = "Evento de contagem",
+                    value = """
+                        event:tally
+                        data:{"sectionId":1,"totalVotes":5,"votesTrue":3,"votesFalse":2,"isExpired":false}
+                        """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Pauta não encontrada")
+    })
+    public SseEmitter streamTally(
+        @Parameter(description = "ID da pauta", required = true, example = "1")
+        @PathVariable Long id
     ) {
-        return sectionService.getAllSectionsWithVotes(userId);
+        return tallyBroadcaster.subscribe(id);
+    }
+
+    private void writeNdjson(Long userId, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            sectionService.streamSectionsWithVotes(userId, section -> {
+                try {
+                    writer.writeValue(generator, section);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     @PostMapping
@@ -2,6 +2,7 @@ package com.sicredi.pautachallenge.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,17 +12,28 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sicredi.pautachallenge.domain.dto.UserDTO;
+import com.sicredi.pautachallenge.domain.dto.UserImportReport;
+import com.sicredi.pautachallenge.domain.dto.UserPage;
 import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.service.UserImportService;
 import com.sicredi.pautachallenge.service.UserService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @CrossOrigin(origins = "http://localhost:5173")
 @RestController
 @RequestMapping("/user")
@@ -30,6 +42,93 @@ import com.sicredi.pautachallenge.service.UserService;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+
+    @GetMapping
+    @Operation(
+        summary = "Listar usuários",
+        description = "Lista uma página de usuários, ordenados por id. Restrito a operadores, com o token de sessão no cabeçalho Authorization. " +
+            "Quando houver mais usuários, o cabeçalho X-Next-Cursor traz o valor a ser enviado em 'after' para buscar a próxima página"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página de usuários retornada com sucesso",
+            headers = @Header(
+                name = SectionController.NEXT_CURSOR_HEADER,
+                description = "Cursor da próxima página (ausente na última página)",
+                schema = @Schema(type = "integer", format = "int64")
+            ),
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = UserResponseDTO.class),
+                examples = @ExampleObject(
+                    name = "Lista de usuários",
+                    value = """
+                        [
+                          {
+                            "id": 1,
+                            "name": "João Silva",
+                            "cpf": "12345678909",
+                            "email": "joao@example.com"
+                          }
+                        ]
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Parâmetros de paginação inválidos",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Erro de validação",
+                    value = """
+                        {
+                          "message": "O limite deve estar entre 1 e 200",
+                          "error": "VALIDATION_ERROR",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Token de sessão ausente, inválido ou expirado"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Usuário do token não é operador",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Acesso negado",
+                    value = """
+                        {
+                          "message": "Acesso restrito a operadores",
+                          "error": "ACCESS_DENIED",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    public ResponseEntity<List<UserResponseDTO>> getUsers(
+        @Parameter(description = "Cursor: id do último usuário da página anterior", example = "50")
+        @RequestParam(required = false) Long after,
+        @Parameter(description = "Quantidade máxima de usuários na página (1 a 200)", example = "50")
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        UserPage page = userService.getUsers(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(SectionController.NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(page.users());
+    }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -72,9 +171,26 @@ public class UserController {
                         """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Fila de criptografia de senhas cheia; tente novamente após o tempo indicado em Retry-After",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Sobrecarga",
+                    value = """
+                        {
+                          "message": "Muitas requisições de autenticação. Tente novamente em instantes.",
+                          "error": "SERVICE_OVERLOADED",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
         )
     })
-    public UserResponseDTO createUser(
+    public CompletableFuture<UserResponseDTO> createUser(
         @Parameter(
             description = "Dados do usuário",
             required = true,
@@ -96,4 +212,93 @@ public class UserController {
     ) {
         return userService.createUser(userDTO);
     }
+
+    @PostMapping(path = "/import", consumes = "text/csv")
+    @Operation(
+        summary = "Importar usuários",
+        description = "Cadastra usuários a partir de um CSV com cabeçalho contendo as colunas name, cpf, password e email. " +
+                      "Restrito a operadores, com o token de sessão no cabeçalho Authorization. " +
+                      "Cada linha segue as mesmas regras do cadastro individual; linhas inválidas ou com email/CPF já cadastrado " +
+                      "são recusadas sem interromper a importação"
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "Arquivo CSV em UTF-8",
+        required = true,
+        content = @Content(
+            mediaType = "text/csv",
+            examples = @ExampleObject(
+                name = "Usuários",
+                value = """
+                    name,cpf,password,email
+                    João Silva,12345678909,senha123,joao@example.com
+                    Maria Souza,98765432100,senha456,maria@example.com
+                    """
+            )
+        )
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Importação concluída",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = UserImportReport.class),
+                examples = @ExampleObject(
+                    name = "Relatório",
+                    value = """
+                        {
+                          "rows": 3,
+                          "imported": 2,
+                          "rejected": 1,
+                          "errors": [
+                            { "line": 4, "message": "CPF inválido" }
+                          ],
+                          "errorsTruncated": false
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Arquivo vazio, cabeçalho sem as colunas obrigatórias ou CSV malformado",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Cabeçalho inválido",
+                    value = """
+                        {
+                          "message": "Cabeçalho do CSV deve conter as colunas: name, cpf, password, email",
+                          "error": "VALIDATION_ERROR",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Token de sessão ausente, inválido ou expirado"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Usuário do token não é operador",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Acesso negado",
+                    value = """
+                        {
+                          "message": "Acesso restrito a operadores",
+                          "error": "ACCESS_DENIED",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    public UserImportReport importUsers(@Parameter(hidden = true) InputStream csv) throws IOException {
+        return userImportService.importCsv(csv);
+    }
 }
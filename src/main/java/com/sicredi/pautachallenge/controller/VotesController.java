@@ -19,10 +19,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sicredi.pautachallenge.domain.dto.VoteBatchResult;
 import com.sicredi.pautachallenge.domain.dto.VoteDTO;
 import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.service.VoteBatchService;
 import com.sicredi.pautachallenge.service.VotesService;
 
+import java.util.List;
+
 @Slf4j
 @CrossOrigin(origins = "http://localhost:5173")
 @RestController
@@ -32,6 +36,7 @@ import com.sicredi.pautachallenge.service.VotesService;
 public class VotesController {
 
     private final VotesService votesService;
+    private final VoteBatchService voteBatchService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -76,6 +81,23 @@ public class VotesController {
                         """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "userId diferente do usuário do token de sessão",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Acesso negado",
+                    value = """
+                        {
+                          "message": "Usuário informado difere do usuário do token",
+                          "error": "ACCESS_DENIED",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
         )
     })
     public Votes createVote(
@@ -99,4 +121,68 @@ public class VotesController {
     ) {
         return votesService.createVote(voteDTO);
     }
+
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Registrar votos em lote",
+        description = "Registra uma lista de votos coletados offline e retorna o resultado de cada voto, na mesma ordem do envio. " +
+                      "Os votos são do usuário do token de sessão; só operadores podem informar o userId de outros associados"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = VoteBatchResult.class),
+                examples = @ExampleObject(
+                    name = "Resultado do lote",
+                    value = """
+                        [
+                          { "index": 0, "sectionId": 1, "userId": 1, "outcome": "CREATED", "voteId": 51 },
+                          { "index": 1, "sectionId": 1, "userId": 2, "outcome": "DUPLICATE", "voteId": null },
+                          { "index": 2, "sectionId": 7, "userId": 3, "outcome": "EXPIRED_SECTION", "voteId": null }
+                        ]
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vazio ou maior que o permitido",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Erro de validação",
+                    value = """
+                        {
+                          "message": "O lote deve conter entre 1 e 1000 votos",
+                          "error": "VALIDATION_ERROR",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Voto de outro associado enviado por um usuário que não é operador",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Acesso negado",
+                    value = """
+                        {
+                          "message": "Usuário informado difere do usuário do token",
+                          "error": "ACCESS_DENIED",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    public List<VoteBatchResult> createVotes(@RequestBody List<VoteDTO> voteDTOs) {
+        return voteBatchService.createVotes(voteDTOs);
+    }
 }
@@ -0,0 +1,114 @@
+package com.sicredi.pautachallenge.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.dto.VoteReceipt;
+import com.sicredi.pautachallenge.service.VoteIngestionService;
+
+import java.net.URI;
+
+@CrossOrigin(origins = "http://localhost:5173")
+@RestController
+@RequestMapping("/votes")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pauta.votes.ingestion", name = "enabled", havingValue = "true")
+@Tag(name = "Votos", description = "Endpoints para gerenciamento de votos")
+public class VotesIngestionController {
+
+    static final String RESPOND_ASYNC = "respond-async";
+
+    private final VoteIngestionService voteIngestionService;
+
+    @PostMapping(headers = "Prefer=" + RESPOND_ASYNC)
+    @Operation(
+        summary = "Registrar voto de forma assíncrona",
+        description = "Enfileira o voto para gravação em lote quando enviado com o cabeçalho 'Prefer: respond-async'"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Voto aceito para gravação",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = VoteReceipt.class),
+                examples = @ExampleObject(
+                    name = "Voto aceito",
+                    value = """
+                        {
+                          "id": "3f1c2a9e-8a4b-4f0e-9d7a-2b6f1e5c9a10",
+                          "sectionId": 1,
+                          "userId": 1,
+                          "status": "PENDING"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Fila de votos cheia ou recebimento em encerramento",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Sobrecarga",
+                    value = """
+                        {
+                          "message": "Sistema de votação sobrecarregado. Tente novamente em instantes.",
+                          "error": "SERVICE_OVERLOADED",
+                          "timestamp": "2025-08-07T22:00:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    public ResponseEntity<VoteReceipt> submitVote(@Valid @RequestBody VoteDTO voteDTO) {
+        VoteReceipt receipt = voteIngestionService.submit(voteDTO);
+        return ResponseEntity.accepted()
+            .location(URI.create("/votes/receipts/" + receipt.id()))
+            .header("Preference-Applied", RESPOND_ASYNC)
+            .body(receipt);
+    }
+
+    @GetMapping("/receipts/{receiptId}")
+    @Operation(
+        summary = "Consultar comprovante de voto",
+        description = "Retorna a situação de um voto enviado de forma assíncrona"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Comprovante encontrado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = VoteReceipt.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Comprovante inexistente ou expirado")
+    })
+    public ResponseEntity<VoteReceipt> getReceipt(
+        @Parameter(description = "Identificador do comprovante", required = true)
+        @PathVariable String receiptId
+    ) {
+        return ResponseEntity.of(voteIngestionService.getReceipt(receiptId));
+    }
+}
@@ -0,0 +1,20 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Dados do usuário autenticado e token de sessão")
+public record AuthResponseDTO(
+    Long id,
+    String name,
+    String cpf,
+    String email,
+
+    @Schema(description = "Token de sessão assinado, enviado no cabeçalho 'Authorization: Bearer <token>'")
+    String token,
+
+    @Schema(description = "Tipo do token", example = "Bearer")
+    String tokenType,
+
+    @Schema(description = "Validade do token em segundos", example = "900")
+    long expiresIn
+) {}
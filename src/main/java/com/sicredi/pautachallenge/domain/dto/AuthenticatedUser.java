@@ -0,0 +1,28 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import com.sicredi.pautachallenge.exception.AccessDeniedException;
+
+/**
+ * Identidade extraída de um token de sessão válido.
+ */
+public record AuthenticatedUser(
+    Long id,
+    String email
+) {
+    /**
+     * Retorna o ID do usuário do token quando houver um, ou o ID informado na requisição.
+     * Um ID informado diferente do ID do token é recusado com {@link AccessDeniedException}.
+     */
+    public static Long resolveUserId(AuthenticatedUser user, Long requestedUserId) {
+        if (user == null) {
+            if (requestedUserId == null) {
+                throw new IllegalArgumentException("ID do usuário é obrigatório");
+            }
+            return requestedUserId;
+        }
+        if (requestedUserId != null && !requestedUserId.equals(user.id())) {
+            throw new AccessDeniedException("Usuário informado difere do usuário do token");
+        }
+        return user.id();
+    }
+}
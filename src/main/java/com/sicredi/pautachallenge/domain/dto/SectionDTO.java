@@ -1,6 +1,9 @@
 package com.sicredi.pautachallenge.domain.dto;
 
+import java.time.LocalDateTime;
+
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -21,5 +24,13 @@ public record SectionDTO(
     @Schema(description = "Tempo de expiração em minutos", example = "10")
     @NotNull(message = "Tempo de expiração é obrigatório")
     @Min(value = 1, message = "Tempo de expiração deve ser pelo menos 1 minuto")
-    Integer expiration
-) {} 
+    Integer expiration,
+
+    @Schema(description = "Data e hora de abertura da votação; quando ausente, a pauta abre imediatamente", example = "2025-08-07T22:00:00")
+    @FutureOrPresent(message = "Data de abertura não pode estar no passado")
+    LocalDateTime startAt
+) {
+    public SectionDTO(String name, String description, Integer expiration) {
+        this(name, description, expiration, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import java.util.List;
+
+import com.sicredi.pautachallenge.domain.interfaces.SectionWithVotesCount;
+
+/**
+ * Página de pautas com o cursor da próxima página (null quando não há mais pautas).
+ */
+public record SectionPage(
+    List<SectionWithVotesCount> sections,
+    Long nextCursor
+) {}
@@ -0,0 +1,21 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import java.time.LocalDateTime;
+
+import com.sicredi.pautachallenge.domain.model.SectionState;
+
+/**
+ * Filtros da listagem paginada de pautas.
+ * @param after id da última pauta da página anterior (cursor), ou null para a primeira página
+ * @param limit quantidade máxima de pautas na página
+ * @param state situação das pautas
+ * @param from início (inclusivo) da janela de criação, ou null
+ * @param to fim (exclusivo) da janela de criação, ou null
+ */
+public record SectionQuery(
+    Long after,
+    int limit,
+    SectionState state,
+    LocalDateTime from,
+    LocalDateTime to
+) {}
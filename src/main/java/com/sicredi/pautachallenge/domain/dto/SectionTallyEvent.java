@@ -0,0 +1,9 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+public record SectionTallyEvent(
+    Long sectionId,
+    long totalVotes,
+    long votesTrue,
+    long votesFalse,
+    boolean isExpired
+) {}
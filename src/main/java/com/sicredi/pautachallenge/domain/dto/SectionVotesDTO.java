@@ -0,0 +1,25 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import java.time.LocalDateTime;
+
+import com.sicredi.pautachallenge.domain.interfaces.SectionWithVotesCount;
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SectionVotesDTO implements SectionWithVotesCount {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Integer expiration;
+    private final LocalDateTime start_at;
+    private final Long totalVotes;
+    private final Long votesTrue;
+    private final Long votesFalse;
+    private final Boolean hasVoted;
+    private final Boolean isExpired;
+    private final SectionStatus status;
+}
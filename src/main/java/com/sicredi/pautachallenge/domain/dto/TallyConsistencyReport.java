@@ -0,0 +1,17 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import java.util.List;
+
+public record TallyConsistencyReport(
+    int checkedSections,
+    boolean consistent,
+    List<Mismatch> mismatches
+) {
+    public record Mismatch(
+        Long sectionId,
+        long memoryVotesTrue,
+        long memoryVotesFalse,
+        long databaseVotesTrue,
+        long databaseVotesFalse
+    ) {}
+}
@@ -0,0 +1,31 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da importação de usuários")
+public record UserImportReport(
+    @Schema(description = "Linhas de dados lidas, sem o cabeçalho", example = "3")
+    long rows,
+
+    @Schema(description = "Usuários criados", example = "2")
+    long imported,
+
+    @Schema(description = "Linhas recusadas", example = "1")
+    long rejected,
+
+    @Schema(description = "Linhas recusadas e o motivo, limitadas às primeiras encontradas")
+    List<RowError> errors,
+
+    @Schema(description = "Indica se há mais linhas recusadas do que as listadas em errors", example = "false")
+    boolean errorsTruncated
+) {
+    public record RowError(
+        @Schema(description = "Linha do arquivo", example = "4")
+        long line,
+
+        @Schema(description = "Motivo da recusa", example = "CPF inválido")
+        String message
+    ) {}
+}
@@ -0,0 +1,11 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import java.util.List;
+
+/**
+ * Página de usuários com o cursor da próxima página (null quando não há mais usuários).
+ */
+public record UserPage(
+    List<UserResponseDTO> users,
+    Long nextCursor
+) {}
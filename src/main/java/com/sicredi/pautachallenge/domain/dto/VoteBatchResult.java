@@ -0,0 +1,23 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.sicredi.pautachallenge.domain.model.VoteOutcome;
+
+@Schema(description = "Resultado de um voto enviado em lote")
+public record VoteBatchResult(
+    @Schema(description = "Posição do voto no lote enviado", example = "0")
+    int index,
+
+    @Schema(description = "ID da seção do voto", example = "1")
+    Long sectionId,
+
+    @Schema(description = "ID do usuário que votou", example = "1")
+    Long userId,
+
+    @Schema(description = "Resultado do voto", example = "CREATED")
+    VoteOutcome outcome,
+
+    @Schema(description = "ID do voto registrado (apenas quando CREATED)", example = "1")
+    Long voteId
+) {}
@@ -9,11 +9,16 @@ public record VoteDTO(
     @NotNull(message = "ID da seção é obrigatório")
     Long sectionId,
     
-    @Schema(description = "ID do usuário que está votando", example = "1")
-    @NotNull(message = "ID do usuário é obrigatório")
+    @Schema(description = "ID do usuário que está votando; opcional, preenchido com o usuário do token de sessão. "
+            + "Um ID diferente do usuário do token é recusado com 403, exceto para operadores em /votes/batch",
+            example = "1", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
     Long userId,
     
     @Schema(description = "Voto do usuário (true = a favor, false = contra)", example = "true")
     @NotNull(message = "Voto é obrigatório")
     Boolean vote
-) {} 
\ No newline at end of file
+) {
+    public VoteDTO withUserId(Long userId) {
+        return new VoteDTO(sectionId, userId, vote);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.sicredi.pautachallenge.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.sicredi.pautachallenge.domain.model.VoteReceiptStatus;
+
+@Schema(description = "Comprovante de recebimento de um voto assíncrono")
+public record VoteReceipt(
+    @Schema(description = "Identificador do comprovante", example = "3f1c2a9e-8a4b-4f0e-9d7a-2b6f1e5c9a10")
+    String id,
+
+    @Schema(description = "ID da seção do voto", example = "1")
+    Long sectionId,
+
+    @Schema(description = "ID do usuário que votou", example = "1")
+    Long userId,
+
+    @Schema(description = "Situação do voto", example = "PENDING")
+    VoteReceiptStatus status
+) {
+    public VoteReceipt withStatus(VoteReceiptStatus status) {
+        return new VoteReceipt(id, sectionId, userId, status);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sicredi.pautachallenge.domain.interfaces;
+
+public interface SectionTallyTotals {
+
+    Long getSectionId();
+
+    Long getVotesTrue();
+
+    Long getVotesFalse();
+}
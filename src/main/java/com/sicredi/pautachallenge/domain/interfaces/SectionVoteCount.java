@@ -0,0 +1,10 @@
+package com.sicredi.pautachallenge.domain.interfaces;
+
+public interface SectionVoteCount {
+
+    Long getSectionId();
+
+    Boolean getVote();
+
+    Long getTotal();
+}
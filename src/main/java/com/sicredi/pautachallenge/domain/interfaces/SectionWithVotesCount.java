@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
+
 @Schema(
     name = "SectionWithVotesCount",
     description = "Dados de uma pauta com contagem de votos",
@@ -18,7 +20,8 @@ import java.time.LocalDateTime;
             "votesTrue": 3,
             "votesFalse": 2,
             "hasVoted": true,
-            "isExpired": false
+            "isExpired": false,
+            "status": "OPEN"
         }
         """
 )
@@ -53,4 +56,7 @@ public interface SectionWithVotesCount {
 
     @Schema(description = "Se a pauta está expirada", example = "false")
     Boolean getIsExpired();
+
+    @Schema(description = "Etapa do ciclo de vida da pauta", example = "OPEN")
+    SectionStatus getStatus();
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.sicredi.pautachallenge.domain.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Resultado final de uma seção, gravado uma única vez quando a seção é encerrada.
+ * Depois de encerrada a seção não recebe mais votos, então a listagem usa este registro em vez da contagem.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "section_results")
+public class SectionResult {
+
+    @Id
+    @Column(name = "section_id")
+    private Long sectionId;
+
+    @Column(name = "votes_true", nullable = false)
+    private Long votesTrue;
+
+    @Column(name = "votes_false", nullable = false)
+    private Long votesFalse;
+
+    @Column(name = "closed_at", nullable = false)
+    private LocalDateTime closedAt;
+
+    public long getTotalVotes() {
+        return votesTrue + votesFalse;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sicredi.pautachallenge.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    name = "SectionState",
+    description = "Situação de uma pauta usada como filtro na listagem",
+    example = "OPEN"
+)
+public enum SectionState {
+    @Schema(description = "Todas as pautas", example = "ALL")
+    ALL,
+
+    @Schema(description = "Pautas com votação aberta", example = "OPEN")
+    OPEN,
+
+    @Schema(description = "Pautas com votação encerrada", example = "EXPIRED")
+    EXPIRED
+}
@@ -0,0 +1,19 @@
+package com.sicredi.pautachallenge.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    name = "SectionStatus",
+    description = "Etapa do ciclo de vida de uma seção",
+    example = "OPEN"
+)
+public enum SectionStatus {
+    @Schema(description = "Seção criada com abertura futura", example = "SCHEDULED")
+    SCHEDULED,
+
+    @Schema(description = "Seção aberta para votação", example = "OPEN")
+    OPEN,
+
+    @Schema(description = "Seção encerrada", example = "CLOSED")
+    CLOSED
+}
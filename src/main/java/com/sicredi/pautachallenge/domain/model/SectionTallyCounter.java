@@ -0,0 +1,50 @@
+package com.sicredi.pautachallenge.domain.model;
+
+import java.io.Serializable;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Linha de contagem de votos de uma seção.
+ * Cada seção possui até {@link #STRIPES} linhas, escolhidas pelo id do usuário, para que votos simultâneos
+ * na mesma seção não disputem o bloqueio de uma única linha. O total da seção é a soma das suas linhas.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "section_tally")
+@IdClass(SectionTallyCounter.Key.class)
+public class SectionTallyCounter {
+
+    public static final int STRIPES = 8;
+
+    @Id
+    @Column(name = "section_id")
+    private Long sectionId;
+
+    @Id
+    @Column(nullable = false)
+    private Integer stripe;
+
+    @Column(name = "votes_true", nullable = false)
+    private Long votesTrue;
+
+    @Column(name = "votes_false", nullable = false)
+    private Long votesFalse;
+
+    public static int stripeOf(long userId) {
+        return (int) Math.floorMod(userId, (long) STRIPES);
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long sectionId;
+        private Integer stripe;
+    }
+}
@@ -7,7 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+    @UniqueConstraint(name = UserEntity.EMAIL_CONSTRAINT, columnNames = "email"),
+    @UniqueConstraint(name = UserEntity.CPF_CONSTRAINT, columnNames = "cpf")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
@@ -26,6 +29,9 @@ import lombok.NoArgsConstructor;
 )
 public class UserEntity {
 
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    public static final String CPF_CONSTRAINT = "uk_users_cpf";
+
     @Schema(description = "ID único do usuário", example = "1")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,11 +42,11 @@ public class UserEntity {
     private String name;
 
     @Schema(description = "Endereço de email único", example = "joao.silva@example.com")
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Schema(description = "CPF único do usuário", example = "12345678909")
-    @Column(nullable = false, unique = true, length = 11)
+    @Column(nullable = false, length = 11)
     private String cpf;
 
     @Schema(description = "Senha criptografada", example = "$2a$10$encryptedPasswordHash")
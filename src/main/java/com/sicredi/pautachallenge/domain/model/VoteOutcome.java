@@ -0,0 +1,31 @@
+package com.sicredi.pautachallenge.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    name = "VoteOutcome",
+    description = "Resultado do processamento de um voto enviado em lote",
+    example = "CREATED"
+)
+public enum VoteOutcome {
+    @Schema(description = "Voto registrado", example = "CREATED")
+    CREATED,
+
+    @Schema(description = "Usuário já votou nesta seção", example = "DUPLICATE")
+    DUPLICATE,
+
+    @Schema(description = "Seção expirada", example = "EXPIRED_SECTION")
+    EXPIRED_SECTION,
+
+    @Schema(description = "Seção inexistente", example = "SECTION_NOT_FOUND")
+    SECTION_NOT_FOUND,
+
+    @Schema(description = "Seção ainda não aberta para votação", example = "SECTION_NOT_OPEN")
+    SECTION_NOT_OPEN,
+
+    @Schema(description = "Usuário não pode votar", example = "UNABLE_TO_VOTE")
+    UNABLE_TO_VOTE,
+
+    @Schema(description = "Dados do voto inválidos", example = "INVALID")
+    INVALID
+}
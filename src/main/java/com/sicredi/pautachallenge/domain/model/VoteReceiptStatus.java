@@ -0,0 +1,25 @@
+package com.sicredi.pautachallenge.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    name = "VoteReceiptStatus",
+    description = "Situação de um voto recebido de forma assíncrona",
+    example = "PENDING"
+)
+public enum VoteReceiptStatus {
+    @Schema(description = "Voto aguardando gravação", example = "PENDING")
+    PENDING,
+
+    @Schema(description = "Voto gravado com sucesso", example = "CREATED")
+    CREATED,
+
+    @Schema(description = "Usuário já havia votado nesta seção", example = "DUPLICATE")
+    DUPLICATE,
+
+    @Schema(description = "Usuário não pode votar", example = "UNABLE_TO_VOTE")
+    UNABLE_TO_VOTE,
+
+    @Schema(description = "Erro ao gravar o voto", example = "FAILED")
+    FAILED
+}
@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "votes")
+@Table(name = "votes", uniqueConstraints = @UniqueConstraint(name = "uk_votes_section_user", columnNames = {"section_id", "user_id"}))
 @Schema(
     name = "Votes",
     description = "Entidade de voto em uma pauta",
@@ -26,9 +26,13 @@ import lombok.NoArgsConstructor;
 )
 public class Votes {
 
+    public static final String ID_SEQUENCE = "votes_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Schema(description = "ID único do voto", example = "1")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Schema(description = "ID da pauta onde o voto foi registrado", example = "1")
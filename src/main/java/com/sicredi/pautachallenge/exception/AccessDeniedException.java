@@ -0,0 +1,7 @@
+package com.sicredi.pautachallenge.exception;
+
+public class AccessDeniedException extends RuntimeException {
+    public AccessDeniedException(String message) {
+        super(message);
+    }
+}
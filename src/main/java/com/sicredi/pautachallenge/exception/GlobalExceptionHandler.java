@@ -1,13 +1,17 @@
 package com.sicredi.pautachallenge.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import com.sicredi.pautachallenge.infra.ErrorResponse;
 
@@ -46,6 +50,14 @@ public class GlobalExceptionHandler {
         return new ErrorResponse(e.getMessage(), "VALIDATION_ERROR", description);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e, WebRequest request) {
+        String description = request != null ? request.getDescription(false) : "Unknown request";
+        log.warn("Parâmetro inválido '{}': {} - Request: {}", e.getName(), e.getValue(), description);
+        return new ErrorResponse("Valor inválido para o parâmetro '" + e.getName() + "'", "VALIDATION_ERROR", description);
+    }
+
     @ExceptionHandler(com.sicredi.pautachallenge.exception.AuthenticationException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public ErrorResponse handleAuthenticationException(com.sicredi.pautachallenge.exception.AuthenticationException e, WebRequest request) {
@@ -54,6 +66,31 @@ public class GlobalExceptionHandler {
         return new ErrorResponse(e.getMessage(), "AUTHENTICATION_ERROR", description);
     }
 
+    @ExceptionHandler(AccessDeniedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ErrorResponse handleAccessDeniedException(AccessDeniedException e, WebRequest request) {
+        String description = request != null ? request.getDescription(false) : "Unknown request";
+        log.warn("AccessDeniedException capturada: {} - Request: {}", e.getMessage(), description);
+        return new ErrorResponse(e.getMessage(), "ACCESS_DENIED", description);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(ServiceOverloadedException e, WebRequest request) {
+        String description = request != null ? request.getDescription(false) : "Unknown request";
+        log.warn("ServiceOverloadedException capturada: {} - Request: {}", e.getMessage(), description);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(new ErrorResponse(e.getMessage(), "SERVICE_OVERLOADED", description));
+    }
+
+    @ExceptionHandler(NoResourceFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleNoResourceFoundException(NoResourceFoundException e, WebRequest request) {
+        String description = request != null ? request.getDescription(false) : "Unknown request";
+        log.debug("Recurso inexistente: {} - Request: {}", e.getResourcePath(), description);
+        return new ErrorResponse("Recurso não encontrado", "NOT_FOUND", description);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleGenericException(Exception e, WebRequest request) {
@@ -0,0 +1,7 @@
+package com.sicredi.pautachallenge.exception;
+
+public class SectionExpiredException extends IllegalArgumentException {
+    public SectionExpiredException() {
+        super("Seção expirada");
+    }
+}
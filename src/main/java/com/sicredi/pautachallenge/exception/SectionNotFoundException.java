@@ -0,0 +1,7 @@
+package com.sicredi.pautachallenge.exception;
+
+public class SectionNotFoundException extends IllegalArgumentException {
+    public SectionNotFoundException() {
+        super("Seção não encontrada");
+    }
+}
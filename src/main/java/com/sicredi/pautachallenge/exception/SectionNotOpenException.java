@@ -0,0 +1,7 @@
+package com.sicredi.pautachallenge.exception;
+
+public class SectionNotOpenException extends IllegalArgumentException {
+    public SectionNotOpenException() {
+        super("Seção ainda não está aberta para votação");
+    }
+}
@@ -0,0 +1,62 @@
+package com.sicredi.pautachallenge.infra;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import com.sicredi.pautachallenge.config.OperatorProperties;
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+
+/**
+ * Preenche o usuário de um {@link VoteDTO}, ou de cada voto de uma lista, com o usuário do token de sessão antes da validação.
+ * O token é obrigatório em /votes ({@link TokenAuthenticationFilter}), então o voto é sempre do usuário do token;
+ * um userId diferente no corpo é recusado com 403. Só operadores ({@link OperatorProperties}) enviam lotes
+ * com votos de outros associados.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class AuthenticatedVoteAdvice extends RequestBodyAdviceAdapter {
+
+    private static final ResolvableType VOTE_LIST = ResolvableType.forClassWithGenerics(List.class, VoteDTO.class);
+
+    private final OperatorProperties operatorProperties;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        return VoteDTO.class.equals(targetType) || VOTE_LIST.isAssignableFrom(ResolvableType.forType(targetType));
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null
+                || !(attributes.getAttribute(TokenAuthenticationFilter.AUTHENTICATED_USER, RequestAttributes.SCOPE_REQUEST)
+                        instanceof AuthenticatedUser user)) {
+            return body;
+        }
+        if (body instanceof VoteDTO voteDTO) {
+            return bind(voteDTO, user);
+        }
+        boolean operator = operatorProperties.isOperator(user);
+        List<?> votes = (List<?>) body;
+        return votes.stream()
+            .map(item -> item instanceof VoteDTO voteDTO && !(operator && voteDTO.userId() != null) ? bind(voteDTO, user) : item)
+            .toList();
+    }
+
+    private static VoteDTO bind(VoteDTO voteDTO, AuthenticatedUser user) {
+        return voteDTO.withUserId(AuthenticatedUser.resolveUserId(user, voteDTO.userId()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.sicredi.pautachallenge.infra;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.sicredi.pautachallenge.config.OperatorProperties;
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
+import com.sicredi.pautachallenge.exception.AuthenticationException;
+import com.sicredi.pautachallenge.service.SessionTokenService;
+
+/**
+ * Verifica o cabeçalho 'Authorization: Bearer &lt;token&gt;' e publica o usuário do token no atributo
+ * {@link #AUTHENTICATED_USER} da requisição. O token é obrigatório nas rotas de {@link #PROTECTED_PATHS} e de
+ * {@link #OPERATOR_ROUTES}; nas demais, requisições sem o cabeçalho seguem sem usuário autenticado.
+ * Um token ausente em rota protegida, inválido ou expirado é respondido com 401; o token de um usuário que não é
+ * operador ({@link OperatorProperties}) em uma rota de {@link #OPERATOR_ROUTES} é respondido com 403.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String AUTHENTICATED_USER = "pauta.authenticatedUser";
+    static final List<String> PROTECTED_PATHS = List.of("/votes", "/section");
+    static final List<Route> OPERATOR_ROUTES = List.of(new Route(HttpMethod.GET, "/user"), new Route(HttpMethod.POST, "/user/import"));
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String MISSING_TOKEN_MESSAGE = "Token de sessão ausente";
+    private static final String OPERATOR_ONLY_MESSAGE = "Acesso restrito a operadores";
+
+    private final SessionTokenService sessionTokenService;
+    private final OperatorProperties operatorProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            if (requiresToken(request)) {
+                log.debug("Token de sessão ausente - Request: {} {}", request.getMethod(), request.getRequestURI());
+                unauthorized(request, response, MISSING_TOKEN_MESSAGE);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AuthenticatedUser user;
+        try {
+            user = sessionTokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        } catch (AuthenticationException e) {
+            log.warn("Token de sessão recusado - Request: {} {}", request.getMethod(), request.getRequestURI());
+            unauthorized(request, response, e.getMessage());
+            return;
+        }
+
+        if (requiresOperator(request) && !operatorProperties.isOperator(user)) {
+            log.warn("Acesso de usuário não operador recusado. Usuário: {} - Request: {} {}",
+                    user.id(), request.getMethod(), request.getRequestURI());
+            writeError(request, response, HttpStatus.FORBIDDEN, OPERATOR_ONLY_MESSAGE, "ACCESS_DENIED");
+            return;
+        }
+
+        request.setAttribute(AUTHENTICATED_USER, user);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Requisições de preflight do CORS não enviam o cabeçalho Authorization e seguem sem token.
+     */
+    private static boolean requiresToken(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return false;
+        }
+        String path = path(request);
+        return PROTECTED_PATHS.stream().anyMatch(prefix -> path.equals(prefix) || path.startsWith(prefix + "/"))
+                || requiresOperator(request);
+    }
+
+    private static boolean requiresOperator(HttpServletRequest request) {
+        String path = path(request);
+        return OPERATOR_ROUTES.stream().anyMatch(route -> route.method().matches(request.getMethod()) && route.path().equals(path));
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private void unauthorized(HttpServletRequest request, HttpServletResponse response, String message) throws IOException {
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        writeError(request, response, HttpStatus.UNAUTHORIZED, message, "AUTHENTICATION_ERROR");
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message,
+            String error) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message, error, "uri=" + request.getRequestURI()));
+    }
+
+    record Route(HttpMethod method, String path) {}
+}
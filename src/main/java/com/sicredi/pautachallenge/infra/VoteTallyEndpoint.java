@@ -0,0 +1,27 @@
+package com.sicredi.pautachallenge.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.sicredi.pautachallenge.domain.dto.TallyConsistencyReport;
+import com.sicredi.pautachallenge.service.VoteTallyService;
+
+/**
+ * Verificação de consistência da contagem em memória com a tabela de votos ({@code GET /actuator/tallies}).
+ * A regeneração de section_tally não é exposta: ela só é segura com a votação parada e é executada
+ * na inicialização, antes de a aplicação receber requisições, com {@code pauta.votes.tally.rebuild=true}.
+ */
+@Component
+@Endpoint(id = "tallies")
+@RequiredArgsConstructor
+public class VoteTallyEndpoint {
+
+    private final VoteTallyService voteTallyService;
+
+    @ReadOperation
+    public TallyConsistencyReport consistency() {
+        return voteTallyService.checkConsistency();
+    }
+}
@@ -0,0 +1,17 @@
+package com.sicredi.pautachallenge.infra.eligibility;
+
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+
+/**
+ * Verificação externa de elegibilidade de um CPF para votar.
+ * A implementação é escolhida pela propriedade {@code pauta.eligibility.client}.
+ */
+public interface EligibilityClient {
+
+    /**
+     * @return a decisão para o CPF informado
+     * @throws EligibilityClientException quando o serviço recusa a consulta com um erro 4xx
+     * @throws RuntimeException quando o serviço não responde ou responde com erro; a falha não é tratada como recusa
+     */
+    VoteStatus check(String cpf);
+}
@@ -0,0 +1,19 @@
+package com.sicredi.pautachallenge.infra.eligibility;
+
+/**
+ * O serviço de elegibilidade respondeu, mas recusou a consulta com um erro 4xx diferente de 404.
+ * Indica um problema na requisição ou na configuração do cliente, e não indisponibilidade do serviço.
+ */
+public class EligibilityClientException extends RuntimeException {
+
+    private final int statusCode;
+
+    public EligibilityClientException(int statusCode, Throwable cause) {
+        super("Consulta recusada pelo serviço de elegibilidade com status " + statusCode, cause);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,65 @@
+package com.sicredi.pautachallenge.infra.eligibility;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import com.sicredi.pautachallenge.config.EligibilityProperties;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+
+/**
+ * Consulta o serviço de elegibilidade em {@code GET {url}/users/{cpf}}, que responde
+ * {@code {"status": "ABLE_TO_VOTE"}} ou {@code {"status": "UNABLE_TO_VOTE"}}, e 404 para CPF inválido.
+ * As conexões usam os tempos limite {@code connectTimeout} e {@code readTimeout}.
+ * É a implementação padrão; sem {@code pauta.eligibility.url} a aplicação não inicia.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "pauta.eligibility", name = "client", havingValue = "http", matchIfMissing = true)
+public class HttpEligibilityClient implements EligibilityClient {
+
+    private final RestClient restClient;
+
+    public HttpEligibilityClient(EligibilityProperties properties, RestClient.Builder builder) {
+        if (properties.url() == null || properties.url().isBlank()) {
+            throw new IllegalStateException("pauta.eligibility.url é obrigatório com pauta.eligibility.client=http");
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.connectTimeout());
+        requestFactory.setReadTimeout(properties.readTimeout());
+        this.restClient = builder
+            .baseUrl(properties.url())
+            .requestFactory(requestFactory)
+            .build();
+        log.info("Verificação de elegibilidade remota habilitada em {}. Conexão: {}, leitura: {}",
+                properties.url(), properties.connectTimeout(), properties.readTimeout());
+    }
+
+    @Override
+    public VoteStatus check(String cpf) {
+        try {
+            EligibilityResponse response = restClient.get()
+                .uri("/users/{cpf}", cpf)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .body(EligibilityResponse.class);
+            if (response == null || response.status() == null) {
+                throw new IllegalStateException("Resposta sem status do serviço de elegibilidade");
+            }
+            return response.status();
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                log.debug("CPF recusado pelo serviço de elegibilidade (404)");
+                return VoteStatus.UNABLE_TO_VOTE;
+            }
+            throw new EligibilityClientException(e.getStatusCode().value(), e);
+        }
+    }
+
+    record EligibilityResponse(VoteStatus status) {}
+}
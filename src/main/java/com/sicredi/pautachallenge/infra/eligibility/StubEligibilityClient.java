@@ -0,0 +1,32 @@
+package com.sicredi.pautachallenge.infra.eligibility;
+
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sicredi.pautachallenge.config.EligibilityProperties;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+
+/**
+ * Implementação local, sem chamadas remotas: todos os CPFs podem votar, exceto os listados em
+ * {@code pauta.eligibility.stub-unable-cpfs}. Usada apenas quando configurada com {@code pauta.eligibility.client=stub}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "pauta.eligibility", name = "client", havingValue = "stub")
+public class StubEligibilityClient implements EligibilityClient {
+
+    private final Set<String> unableCpfs;
+
+    public StubEligibilityClient(EligibilityProperties properties) {
+        this.unableCpfs = Set.copyOf(properties.stubUnableCpfs());
+        log.info("Verificação de elegibilidade local habilitada. CPFs recusados: {}", unableCpfs.size());
+    }
+
+    @Override
+    public VoteStatus check(String cpf) {
+        return unableCpfs.contains(cpf) ? VoteStatus.UNABLE_TO_VOTE : VoteStatus.ABLE_TO_VOTE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+final class DatabaseProducts {
+
+    static final String POSTGRESQL = "PostgreSQL";
+    static final String H2 = "H2";
+
+    private DatabaseProducts() {
+    }
+
+    static String nameOf(DataSource dataSource) {
+        try {
+            return JdbcUtils.commonDatabaseName(
+                    JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Não foi possível identificar o banco de dados", e);
+        }
+    }
+}
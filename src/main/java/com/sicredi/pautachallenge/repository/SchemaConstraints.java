@@ -0,0 +1,34 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Consulta às restrições de unicidade de uma tabela pelo information_schema, disponível no PostgreSQL e no H2.
+ * Nomes de restrições e colunas são devolvidos em minúsculas.
+ */
+final class SchemaConstraints {
+
+    private static final String UNIQUE_CONSTRAINTS =
+            "SELECT tc.constraint_name, kcu.column_name FROM information_schema.table_constraints tc " +
+            "JOIN information_schema.key_column_usage kcu ON kcu.constraint_name = tc.constraint_name " +
+            "AND kcu.table_schema = tc.table_schema AND kcu.table_name = tc.table_name " +
+            "WHERE tc.constraint_type = 'UNIQUE' AND tc.table_schema = CURRENT_SCHEMA AND LOWER(tc.table_name) = ?";
+
+    private SchemaConstraints() {
+    }
+
+    static Map<String, Set<String>> uniqueConstraints(JdbcTemplate jdbcTemplate, String table) {
+        Map<String, Set<String>> constraints = new LinkedHashMap<>();
+        jdbcTemplate.query(UNIQUE_CONSTRAINTS, rs -> {
+            constraints.computeIfAbsent(rs.getString(1).toLowerCase(Locale.ROOT), name -> new TreeSet<>())
+                .add(rs.getString(2).toLowerCase(Locale.ROOT));
+        }, table.toLowerCase(Locale.ROOT));
+        return constraints;
+    }
+}
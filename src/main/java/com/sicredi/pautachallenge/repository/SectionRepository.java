@@ -1,23 +1,35 @@
 package com.sicredi.pautachallenge.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import com.sicredi.pautachallenge.domain.interfaces.SectionWithVotesCount;
 import com.sicredi.pautachallenge.domain.model.Section;
 
 public interface SectionRepository extends JpaRepository<Section, Long> {
-    @Query(value = "SELECT s.*, " +
-            "(SELECT COUNT(v.id) FROM votes v WHERE v.section_id = s.id) as totalVotes, " +
-            "(SELECT COUNT(v.id) FROM votes v WHERE v.section_id = s.id AND v.vote = true) as votesTrue, " +
-            "(SELECT COUNT(v.id) FROM votes v WHERE v.section_id = s.id AND v.vote = false) as votesFalse, " +
-            "(CASE WHEN EXISTS (SELECT 1 FROM votes v WHERE v.section_id = s.id AND v.user_id = :user_id) THEN true ELSE false END) as hasVoted, "
-            +
-            "(CASE WHEN NOW() > DATEADD('MINUTE', s.expiration, s.start_at) THEN true ELSE false END) as isExpired "
-            +
-            "FROM sections s", nativeQuery = true)
-    List<SectionWithVotesCount> findAllWithVotesCount(@Param("user_id") Long user_id);
-}
\ No newline at end of file
+    /**
+     * Página de seções com id maior que {@code after}, ordenadas por id.
+     * A situação é comparada em segundos desde a época, pois start_at é gravado sem fuso e a soma de minutos
+     * não é traduzida de forma portável para H2 e PostgreSQL; {@code nowEpoch} deve usar o mesmo referencial (UTC).
+     * Com {@code expired = false} entram apenas as seções já iniciadas, que aceitam votos.
+     */
+    @Query("SELECT s FROM Section s " +
+            "WHERE (:after IS NULL OR s.id > :after) " +
+            "AND (:from IS NULL OR s.start_at >= :from) " +
+            "AND (:to IS NULL OR s.start_at < :to) " +
+            "AND (:expired IS NULL " +
+            "OR (:expired = true AND extract(epoch from s.start_at) + s.expiration * 60 < :nowEpoch) " +
+            "OR (:expired = false AND extract(epoch from s.start_at) <= :nowEpoch " +
+            "AND extract(epoch from s.start_at) + s.expiration * 60 >= :nowEpoch)) " +
+            "ORDER BY s.id")
+    List<Section> findPage(@Param("after") Long after,
+                           @Param("from") LocalDateTime from,
+                           @Param("to") LocalDateTime to,
+                           @Param("expired") Boolean expired,
+                           @Param("nowEpoch") long nowEpoch,
+                           Pageable pageable);
+}
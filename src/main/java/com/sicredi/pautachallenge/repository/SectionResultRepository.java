@@ -0,0 +1,36 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sicredi.pautachallenge.domain.model.SectionResult;
+
+public interface SectionResultRepository extends JpaRepository<SectionResult, Long> {
+
+    /**
+     * Seções expiradas antes de {@code expiredBeforeEpoch} (segundos desde a época, UTC) que ainda não possuem resultado.
+     */
+    @Query("SELECT s.id FROM Section s " +
+            "WHERE extract(epoch from s.start_at) + s.expiration * 60 < :expiredBeforeEpoch " +
+            "AND NOT EXISTS (SELECT 1 FROM SectionResult r WHERE r.sectionId = s.id) " +
+            "ORDER BY s.id")
+    List<Long> findSectionIdsToClose(@Param("expiredBeforeEpoch") long expiredBeforeEpoch, Pageable pageable);
+
+    /**
+     * Grava o resultado da seção a partir da soma das suas linhas em section_tally.
+     * Não grava nada se o resultado já existir.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO section_results (section_id, votes_true, votes_false, closed_at) " +
+            "SELECT :sectionId, t.votes_true, t.votes_false, :closedAt " +
+            "FROM (SELECT COALESCE(SUM(votes_true), 0) AS votes_true, COALESCE(SUM(votes_false), 0) AS votes_false " +
+            "FROM section_tally WHERE section_id = :sectionId) t " +
+            "WHERE NOT EXISTS (SELECT 1 FROM section_results r WHERE r.section_id = :sectionId)", nativeQuery = true)
+    int insertFromTally(@Param("sectionId") Long sectionId, @Param("closedAt") LocalDateTime closedAt);
+}
@@ -0,0 +1,26 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sicredi.pautachallenge.domain.interfaces.SectionTallyTotals;
+import com.sicredi.pautachallenge.domain.model.SectionTallyCounter;
+
+public interface SectionTallyRepository extends JpaRepository<SectionTallyCounter, SectionTallyCounter.Key> {
+
+    @Query("SELECT t.sectionId AS sectionId, SUM(t.votesTrue) AS votesTrue, SUM(t.votesFalse) AS votesFalse " +
+            "FROM SectionTallyCounter t GROUP BY t.sectionId")
+    List<SectionTallyTotals> sumBySection();
+
+    @Modifying
+    @Query(value = "INSERT INTO section_tally (section_id, stripe, votes_true, votes_false) " +
+            "SELECT v.section_id, v.stripe, " +
+            "SUM(CASE WHEN v.vote = true THEN 1 ELSE 0 END), SUM(CASE WHEN v.vote = true THEN 0 ELSE 1 END) " +
+            "FROM (SELECT section_id, MOD(user_id, :stripes) AS stripe, vote FROM votes) v " +
+            "GROUP BY v.section_id, v.stripe", nativeQuery = true)
+    int insertFromVotes(@Param("stripes") int stripes);
+}
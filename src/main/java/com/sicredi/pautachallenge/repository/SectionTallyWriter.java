@@ -0,0 +1,65 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sicredi.pautachallenge.domain.model.SectionTallyCounter;
+import com.sicredi.pautachallenge.domain.model.Votes;
+
+/**
+ * Soma votos recém-gravados nas linhas de section_tally com um upsert por linha afetada.
+ * As linhas são atualizadas sempre na mesma ordem (seção, faixa) para que transações concorrentes não entrem em deadlock.
+ */
+class SectionTallyWriter {
+
+    private static final String POSTGRES_UPSERT =
+            "INSERT INTO section_tally (section_id, stripe, votes_true, votes_false) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (section_id, stripe) DO UPDATE SET " +
+            "votes_true = section_tally.votes_true + EXCLUDED.votes_true, " +
+            "votes_false = section_tally.votes_false + EXCLUDED.votes_false";
+
+    private static final String H2_UPSERT =
+            "MERGE INTO section_tally t USING (VALUES (CAST(? AS BIGINT), CAST(? AS INT), CAST(? AS BIGINT), CAST(? AS BIGINT))) " +
+            "AS d (section_id, stripe, votes_true, votes_false) " +
+            "ON t.section_id = d.section_id AND t.stripe = d.stripe " +
+            "WHEN MATCHED THEN UPDATE SET votes_true = t.votes_true + d.votes_true, votes_false = t.votes_false + d.votes_false " +
+            "WHEN NOT MATCHED THEN INSERT (section_id, stripe, votes_true, votes_false) " +
+            "VALUES (d.section_id, d.stripe, d.votes_true, d.votes_false)";
+
+    private static final Comparator<SectionTallyCounter.Key> KEY_ORDER =
+            Comparator.comparing(SectionTallyCounter.Key::getSectionId).thenComparing(SectionTallyCounter.Key::getStripe);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsert;
+
+    SectionTallyWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        String databaseName = DatabaseProducts.nameOf(jdbcTemplate.getDataSource());
+        this.upsert = switch (databaseName) {
+            case DatabaseProducts.POSTGRESQL -> POSTGRES_UPSERT;
+            case DatabaseProducts.H2 -> H2_UPSERT;
+            default -> throw new IllegalStateException("Banco de dados não suportado para contagem de votos: " + databaseName);
+        };
+    }
+
+    void add(List<Votes> votes) {
+        Map<SectionTallyCounter.Key, long[]> deltas = new TreeMap<>(KEY_ORDER);
+        for (Votes vote : votes) {
+            SectionTallyCounter.Key key = new SectionTallyCounter.Key(vote.getSectionId(), SectionTallyCounter.stripeOf(vote.getUserId()));
+            deltas.computeIfAbsent(key, k -> new long[2])[Boolean.TRUE.equals(vote.getVote()) ? 0 : 1]++;
+        }
+
+        List<Map.Entry<SectionTallyCounter.Key, long[]>> rows = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(upsert, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getKey().getSectionId());
+            ps.setInt(2, row.getKey().getStripe());
+            ps.setLong(3, row.getValue()[0]);
+            ps.setLong(4, row.getValue()[1]);
+        });
+    }
+}
@@ -1,10 +1,30 @@
 package com.sicredi.pautachallenge.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
 import com.sicredi.pautachallenge.domain.model.UserEntity;
 
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UserRepositoryCustom {
     UserEntity findByEmail(String email);
     UserEntity findByCpf(String cpf);
-}
\ No newline at end of file
+
+    @Query("SELECT u.cpf FROM UserEntity u WHERE u.id = :id")
+    Optional<String> findCpfById(@Param("id") Long id);
+
+    /**
+     * Página de usuários com id maior que {@code after}, ordenados por id.
+     * Seleciona apenas as colunas de {@link UserResponseDTO}; a senha não é lida.
+     */
+    @Query("SELECT new com.sicredi.pautachallenge.domain.dto.UserResponseDTO(u.id, u.name, u.cpf, u.email) " +
+            "FROM UserEntity u " +
+            "WHERE (:after IS NULL OR u.id > :after) " +
+            "ORDER BY u.id")
+    List<UserResponseDTO> findPage(@Param("after") Long after, Pageable pageable);
+}
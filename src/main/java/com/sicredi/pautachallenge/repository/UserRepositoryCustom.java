@@ -0,0 +1,20 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.List;
+
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+
+/**
+ * Inserções de usuários via JDBC para importações em massa.
+ * Usuários com email ou CPF já cadastrados são ignorados em vez de interromper o lote.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Insere os usuários em um único lote JDBC, na mesma transação.
+     * @return para cada usuário, na mesma posição, se ele foi inserido
+     */
+    boolean[] insertBatchIfAbsent(List<UserEntity> users);
+
+    boolean insertIfAbsent(UserEntity user);
+}
@@ -0,0 +1,61 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String INSERT_USER_IF_ABSENT =
+            "INSERT INTO users (name, email, cpf, password) SELECT ?, ?, ?, ? " +
+            "WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = ? OR cpf = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserRepositoryCustomImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public boolean[] insertBatchIfAbsent(List<UserEntity> users) {
+        boolean[] inserted = new boolean[users.size()];
+        if (users.isEmpty()) {
+            return inserted;
+        }
+        int[][] rows = transactionTemplate.execute(status ->
+                jdbcTemplate.batchUpdate(INSERT_USER_IF_ABSENT, users, users.size(), UserRepositoryCustomImpl::bind));
+        for (int i = 0; i < users.size(); i++) {
+            inserted[i] = rows[0][i] != 0;
+        }
+        return inserted;
+    }
+
+    @Override
+    public boolean insertIfAbsent(UserEntity user) {
+        try {
+            return transactionTemplate.execute(status ->
+                    jdbcTemplate.update(INSERT_USER_IF_ABSENT, ps -> bind(ps, user))) > 0;
+        } catch (DuplicateKeyException e) {
+            // Outro usuário com o mesmo email ou CPF foi gravado entre o NOT EXISTS e o INSERT
+            return false;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, UserEntity user) throws SQLException {
+        ps.setString(1, user.getName());
+        ps.setString(2, user.getEmail());
+        ps.setString(3, user.getCpf());
+        ps.setString(4, user.getPassword());
+        ps.setString(5, user.getEmail());
+        ps.setString(6, user.getCpf());
+    }
+}
@@ -0,0 +1,63 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+
+/**
+ * Garante que as restrições de unicidade de email e CPF da tabela users tenham os nomes de {@link UserEntity},
+ * pelos quais o {@code UserService} traduz um cadastro duplicado em "Email já cadastrado" ou "CPF já cadastrado".
+ * <p>
+ * Bancos criados antes da nomeação têm restrições com nomes gerados pelo Hibernate nas mesmas colunas, e o
+ * ddl-auto=update cria as nomeadas ao lado delas; qualquer uma das duas pode ser a violada em um INSERT.
+ * A restrição antiga é removida quando a nomeada já existe, ou renomeada quando ela não existe.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+class UsersSchemaInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    UsersSchemaInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void prepare() {
+        ensureNamedConstraint(UserEntity.EMAIL_CONSTRAINT, "email");
+        ensureNamedConstraint(UserEntity.CPF_CONSTRAINT, "cpf");
+    }
+
+    void ensureNamedConstraint(String name, String column) {
+        Map<String, Set<String>> constraints = SchemaConstraints.uniqueConstraints(jdbcTemplate, "users");
+        List<String> legacy = constraints.entrySet().stream()
+            .filter(constraint -> !constraint.getKey().equals(name) && constraint.getValue().equals(Set.of(column)))
+            .map(Map.Entry::getKey)
+            .toList();
+
+        boolean present = constraints.containsKey(name);
+        for (String old : legacy) {
+            if (present) {
+                log.warn("Removendo a restrição {} da coluna users.{}, substituída por {}", old, column, name);
+                jdbcTemplate.execute("ALTER TABLE users DROP CONSTRAINT " + old);
+            } else {
+                log.warn("Renomeando a restrição {} da coluna users.{} para {}", old, column, name);
+                jdbcTemplate.execute("ALTER TABLE users RENAME CONSTRAINT " + old + " TO " + name);
+                present = true;
+            }
+        }
+        if (!present) {
+            log.warn("Restrição {} ausente na tabela users. Criando a restrição", name);
+            jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT " + name + " UNIQUE (" + column + ")");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+
+import com.sicredi.pautachallenge.domain.model.Votes;
+
+/**
+ * Reserva ids de votos em blocos da sequência votes_seq, com a mesma semântica do otimizador pooled-lo
+ * usado pelo Hibernate: cada valor da sequência é o primeiro id de um bloco de {@link Votes#ID_ALLOCATION_SIZE} ids.
+ * Assim as inserções JDBC em lote e as feitas pelo Hibernate compartilham a sequência sem colisões.
+ */
+class VoteIdAllocator {
+
+    private final DataFieldMaxValueIncrementer incrementer;
+    private final Lock lock = new ReentrantLock();
+
+    private long next;
+    private long limit;
+
+    VoteIdAllocator(DataSource dataSource) {
+        this.incrementer = createIncrementer(dataSource);
+    }
+
+    long nextId() {
+        // ReentrantLock em vez de synchronized: a consulta à sequência não prende a thread virtual à thread de plataforma
+        lock.lock();
+        try {
+            if (next >= limit) {
+                next = incrementer.nextLongValue();
+                limit = next + Votes.ID_ALLOCATION_SIZE;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static DataFieldMaxValueIncrementer createIncrementer(DataSource dataSource) {
+        String databaseName = DatabaseProducts.nameOf(dataSource);
+        return switch (databaseName) {
+            case DatabaseProducts.POSTGRESQL -> new PostgresSequenceMaxValueIncrementer(dataSource, Votes.ID_SEQUENCE);
+            case DatabaseProducts.H2 -> new H2SequenceMaxValueIncrementer(dataSource, Votes.ID_SEQUENCE);
+            default -> throw new IllegalStateException("Banco de dados não suportado para geração de ids de votos: " + databaseName);
+        };
+    }
+}
@@ -1,11 +1,18 @@
 package com.sicredi.pautachallenge.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.sicredi.pautachallenge.domain.interfaces.SectionVoteCount;
 import com.sicredi.pautachallenge.domain.model.Votes;
 
-public interface VotesRepository extends JpaRepository<Votes, Long> {
+public interface VotesRepository extends JpaRepository<Votes, Long>, VotesRepositoryCustom {
     Optional<Votes> findByUserIdAndSectionId(Long userId, Long sectionId);
-}
\ No newline at end of file
+
+    @Query("SELECT v.sectionId AS sectionId, v.vote AS vote, COUNT(v.id) AS total " +
+            "FROM Votes v GROUP BY v.sectionId, v.vote")
+    List<SectionVoteCount> countVotesBySectionAndVote();
+}
@@ -0,0 +1,21 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.List;
+
+import com.sicredi.pautachallenge.domain.model.Votes;
+
+/**
+ * Inserções de votos via JDBC. Cada inserção também soma o voto em section_tally na mesma transação.
+ */
+public interface VotesRepositoryCustom {
+    boolean insertIfAbsent(Votes votes);
+
+    void insertBatch(List<Votes> votes);
+
+    void forEachVoter(VoterCallback callback);
+
+    @FunctionalInterface
+    interface VoterCallback {
+        void accept(long sectionId, long userId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.domain.model.Votes;
+
+public class VotesRepositoryCustomImpl implements VotesRepositoryCustom {
+
+    private static final String INSERT_VOTE =
+            "INSERT INTO votes (id, section_id, user_id, vote, status) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_VOTE_IF_ABSENT =
+            "INSERT INTO votes (id, section_id, user_id, vote, status) SELECT ?, ?, ?, ?, ? " +
+            "WHERE NOT EXISTS (SELECT 1 FROM votes WHERE section_id = ? AND user_id = ?)";
+
+    private static final String SELECT_VOTERS =
+            "SELECT section_id, user_id FROM votes ORDER BY section_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteIdAllocator voteIdAllocator;
+    private final SectionTallyWriter sectionTallyWriter;
+
+    public VotesRepositoryCustomImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.voteIdAllocator = new VoteIdAllocator(jdbcTemplate.getDataSource());
+        this.sectionTallyWriter = new SectionTallyWriter(jdbcTemplate);
+    }
+
+    @Override
+    public boolean insertIfAbsent(Votes vote) {
+        long id = voteIdAllocator.nextId();
+        boolean inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> {
+                int rows = jdbcTemplate.update(INSERT_VOTE_IF_ABSENT, ps -> {
+                    ps.setLong(1, id);
+                    ps.setLong(2, vote.getSectionId());
+                    ps.setLong(3, vote.getUserId());
+                    ps.setBoolean(4, vote.getVote());
+                    ps.setString(5, vote.getStatus().name());
+                    ps.setLong(6, vote.getSectionId());
+                    ps.setLong(7, vote.getUserId());
+                });
+                if (rows == 0) {
+                    return false;
+                }
+                sectionTallyWriter.add(List.of(vote));
+                return true;
+            });
+        } catch (DuplicateKeyException e) {
+            // Outro voto do mesmo usuário foi gravado entre o NOT EXISTS e o INSERT
+            return false;
+        }
+        if (inserted) {
+            vote.setId(id);
+        }
+        return inserted;
+    }
+
+    @Override
+    public void insertBatch(List<Votes> votes) {
+        votes.forEach(vote -> vote.setId(voteIdAllocator.nextId()));
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_VOTE, votes, votes.size(), (ps, vote) -> {
+                ps.setLong(1, vote.getId());
+                ps.setLong(2, vote.getSectionId());
+                ps.setLong(3, vote.getUserId());
+                ps.setBoolean(4, vote.getVote());
+                ps.setString(5, vote.getStatus().name());
+            });
+            sectionTallyWriter.add(votes);
+        });
+    }
+
+    @Override
+    public void forEachVoter(VoterCallback callback) {
+        jdbcTemplate.query(SELECT_VOTERS, rs -> {
+            callback.accept(rs.getLong(1), rs.getLong(2));
+        });
+    }
+}
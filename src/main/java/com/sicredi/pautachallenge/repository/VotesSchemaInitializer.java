@@ -0,0 +1,94 @@
+package com.sicredi.pautachallenge.repository;
+
+import java.util.Locale;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.sicredi.pautachallenge.domain.model.Votes;
+
+/**
+ * Ajustes na tabela de votos que o ddl-auto=update do Hibernate não garante em bancos existentes.
+ * Executado depois da atualização do esquema e antes de os contadores em memória serem carregados.
+ * <p>
+ * A restrição {@value #UNIQUE_CONSTRAINT} é a única proteção contra votos duplicados em {@code insertIfAbsent}.
+ * O Hibernate apenas registra no log a falha ao criá-la quando já existem votos duplicados; por isso ela é criada aqui.
+ * Se houver votos duplicados, a inicialização é interrompida: nenhum voto é removido automaticamente, e cabe a um
+ * operador decidir quais manter e, depois, regenerar section_tally com {@code pauta.votes.tally.rebuild=true}.
+ * <p>
+ * A sequência {@link Votes#ID_SEQUENCE} é criada pelo Hibernate começando em 1 mesmo quando a tabela já tem votos
+ * gravados com ids IDENTITY; ela é avançada para depois do maior id existente, para que o {@link VoteIdAllocator}
+ * e o Hibernate não reutilizem ids.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+class VotesSchemaInitializer {
+
+    static final String UNIQUE_CONSTRAINT = "uk_votes_section_user";
+
+    static final String FIND_DUPLICATES =
+            "SELECT section_id, user_id, COUNT(*) FROM votes GROUP BY section_id, user_id HAVING COUNT(*) > 1";
+
+    private static final String POSTGRES_NEXT_ID =
+            "SELECT COALESCE(last_value + increment_by, start_value) FROM pg_sequences " +
+            "WHERE schemaname = CURRENT_SCHEMA AND sequencename = ?";
+
+    private static final String H2_NEXT_ID =
+            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = CURRENT_SCHEMA AND SEQUENCE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String databaseName;
+
+    VotesSchemaInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseName = DatabaseProducts.nameOf(jdbcTemplate.getDataSource());
+    }
+
+    @PostConstruct
+    public void prepare() {
+        ensureUniqueVoter();
+        alignIdSequence();
+    }
+
+    void alignIdSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM votes", Long.class);
+        if (maxId == null || nextSequenceValue() > maxId) {
+            return;
+        }
+        log.warn("Sequência {} atrás do maior id de votos ({}). Avançando a sequência", Votes.ID_SEQUENCE, maxId);
+        switch (databaseName) {
+            // Com is_called verdadeiro o próximo nextval devolve maxId + increment_by
+            case DatabaseProducts.POSTGRESQL -> jdbcTemplate.queryForObject("SELECT setval('" + Votes.ID_SEQUENCE + "', ?)", Long.class, maxId);
+            case DatabaseProducts.H2 -> jdbcTemplate.execute("ALTER SEQUENCE " + Votes.ID_SEQUENCE + " RESTART WITH " + (maxId + 1));
+            default -> throw new IllegalStateException("Banco de dados não suportado para a sequência de votos: " + databaseName);
+        }
+    }
+
+    private long nextSequenceValue() {
+        return switch (databaseName) {
+            case DatabaseProducts.POSTGRESQL -> jdbcTemplate.queryForObject(POSTGRES_NEXT_ID, Long.class, Votes.ID_SEQUENCE);
+            case DatabaseProducts.H2 -> jdbcTemplate.queryForObject(H2_NEXT_ID, Long.class, Votes.ID_SEQUENCE.toUpperCase(Locale.ROOT));
+            default -> throw new IllegalStateException("Banco de dados não suportado para a sequência de votos: " + databaseName);
+        };
+    }
+
+    void ensureUniqueVoter() {
+        if (SchemaConstraints.uniqueConstraints(jdbcTemplate, "votes").containsKey(UNIQUE_CONSTRAINT)) {
+            return;
+        }
+        log.warn("Restrição {} ausente na tabela votes. Criando a restrição", UNIQUE_CONSTRAINT);
+        Integer duplicates = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + FIND_DUPLICATES + ") d", Integer.class);
+        if (duplicates != null && duplicates > 0) {
+            throw new IllegalStateException(("A tabela votes tem %d pares (section_id, user_id) com votos duplicados e a " +
+                    "restrição %s não pode ser criada. Nenhum voto foi alterado: liste-os com \"%s\", remova os votos " +
+                    "indevidos e reinicie com pauta.votes.tally.rebuild=true")
+                    .formatted(duplicates, UNIQUE_CONSTRAINT, FIND_DUPLICATES));
+        }
+        jdbcTemplate.execute("ALTER TABLE votes ADD CONSTRAINT " + UNIQUE_CONSTRAINT + " UNIQUE (section_id, user_id)");
+        log.info("Restrição {} criada na tabela votes", UNIQUE_CONSTRAINT);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sicredi.pautachallenge.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV (RFC 4180) que lê um registro por vez, sem carregar o arquivo em memória.
+ * Aceita campos entre aspas, com vírgulas, quebras de linha e aspas duplicadas ("") dentro deles.
+ */
+final class CsvRecordReader {
+
+    private final Reader reader;
+    private int pending = -2;
+    private long line = 1;
+    private long recordLine;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lê o próximo registro, ignorando linhas vazias.
+     * @return campos do registro, ou null ao final do arquivo
+     */
+    List<String> next() throws IOException {
+        List<String> fields;
+        do {
+            if (peek() == -1) {
+                return null;
+            }
+            recordLine = line;
+            fields = readRecord();
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+        return fields;
+    }
+
+    /**
+     * Linha do arquivo, a partir de 1, em que começa o último registro lido.
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Aspas não fechadas no registro iniciado na linha " + recordLine);
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        field.append((char) read());
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (pending == -2) {
+            pending = reader.read();
+        }
+        return pending;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        pending = -2;
+        if (c == '\n' || (c == '\r' && peek() != '\n')) {
+            line++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,128 @@
+package com.sicredi.pautachallenge.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Roda de temporizadores com hash (hashed timer wheel).
+ * Cada temporizador é colocado no compartimento correspondente ao seu instante, módulo {@code wheelSize},
+ * com o número de voltas que faltam. Uma única thread avança um compartimento a cada {@code tick}
+ * e executa apenas os temporizadores vencidos, de forma que agendar e disparar custam O(1)
+ * independentemente da quantidade de temporizadores. A precisão é de um {@code tick}.
+ */
+@Slf4j
+final class HashedTimerWheel {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout>> buckets;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+
+    private final long startTime;
+    private volatile boolean running = true;
+    private long tick;
+
+    HashedTimerWheel(Duration tickDuration, int wheelSize, String threadName) {
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("O tamanho da roda deve ser uma potência de 2: " + wheelSize);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Agenda a tarefa para depois de {@code delay}. Atrasos negativos ou nulos disparam no próximo tick.
+     * A tarefa é executada na thread da roda e não deve bloquear.
+     */
+    void schedule(Duration delay, Runnable task) {
+        long deadline = System.nanoTime() + Math.max(0, delay.toNanos()) - startTime;
+        pending.incrementAndGet();
+        added.add(new Timeout(deadline, task));
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleep = deadline - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (System.nanoTime() - startTime < deadline) {
+                    continue;
+                }
+            }
+            transferAdded();
+            expire(buckets.get((int) (tick & mask)), deadline);
+            tick++;
+        }
+    }
+
+    private void transferAdded() {
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / buckets.size();
+            // Temporizadores já vencidos vão para o compartimento atual
+            long ticks = Math.max(calculated, tick);
+            buckets.get((int) (ticks & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket, long deadline) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            if (timeout.deadline > deadline) {
+                continue;
+            }
+            iterator.remove();
+            pending.decrementAndGet();
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                log.error("Erro ao executar temporizador", e);
+            }
+        }
+    }
+
+    private static final class Timeout {
+        private final long deadline;
+        private final Runnable task;
+        private long remainingRounds;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+    }
+}
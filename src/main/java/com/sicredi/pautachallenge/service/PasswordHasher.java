@@ -0,0 +1,114 @@
+package com.sicredi.pautachallenge.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.PasswordHashingProperties;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
+import com.sicredi.pautachallenge.utils.BcryptUtils;
+
+/**
+ * Executa o BCrypt fora das threads de requisição, em um pool limitado com uma thread por processador
+ * e fila de {@code queueCapacity} tarefas. Com a fila cheia a tarefa é recusada imediatamente com
+ * {@link ServiceOverloadedException}, para que uma onda de logins não ocupe as threads usadas pelos votos.
+ * As etapas seguintes ao hash continuam no executor de tarefas da aplicação, liberando o pool para o próximo hash.
+ */
+@Slf4j
+@Service
+public class PasswordHasher {
+
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor hashingPool;
+    private final Executor completionExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor completionExecutor) {
+        this.properties = properties;
+        this.completionExecutor = completionExecutor;
+        int threads = properties.effectiveThreads();
+        this.hashingPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()), namedThreads(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.waitTimer = Timer.builder("pauta.auth.hashing.wait")
+            .description("Tempo de espera na fila de criptografia")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("pauta.auth.hashing.rejected")
+            .description("Tarefas de criptografia recusadas por fila cheia")
+            .register(meterRegistry);
+        Gauge.builder("pauta.auth.hashing.queue", hashingPool, pool -> pool.getQueue().size())
+            .description("Tarefas de criptografia aguardando na fila")
+            .register(meterRegistry);
+        Gauge.builder("pauta.auth.hashing.active", hashingPool, ThreadPoolExecutor::getActiveCount)
+            .description("Threads de criptografia em execução")
+            .register(meterRegistry);
+        log.info("Pool de criptografia de senhas iniciado. Threads: {}, capacidade da fila: {}", threads, properties.queueCapacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        hashingPool.shutdown();
+    }
+
+    public CompletableFuture<String> encode(String password) {
+        return submit(encodeTimer, () -> BcryptUtils.encryptPassword(password));
+    }
+
+    public CompletableFuture<Boolean> matches(String password, String hashedPassword) {
+        return submit(matchesTimer, () -> BcryptUtils.comparePasswords(password, hashedPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                    waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                    return timer.record(task);
+                }, hashingPool)
+                .thenApplyAsync(result -> result, completionExecutor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Fila de criptografia cheia ({} tarefas). Recusando requisição", properties.queueCapacity());
+            throw new ServiceOverloadedException("Muitas requisições de autenticação. Tente novamente em instantes.",
+                    properties.retryAfter());
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("pauta.auth.hashing.duration")
+            .tag("operation", operation)
+            .description("Tempo de execução do BCrypt")
+            .register(meterRegistry);
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
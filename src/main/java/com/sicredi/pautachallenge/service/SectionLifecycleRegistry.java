@@ -0,0 +1,200 @@
+package com.sicredi.pautachallenge.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.SectionLifecycleProperties;
+import com.sicredi.pautachallenge.domain.model.Section;
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
+import com.sicredi.pautachallenge.repository.SectionRepository;
+
+/**
+ * Registro em memória do ciclo de vida das seções (SCHEDULED, OPEN, CLOSED).
+ * Ao ser registrada, na criação ou na primeira consulta, a seção recebe temporizadores em uma
+ * {@link HashedTimerWheel} para a abertura e o encerramento; a validação de um voto apenas lê o estado atual,
+ * sem consultar o banco nem calcular datas. Seções encerradas permanecem no registro por {@code closedRetention}.
+ * O estado muda com precisão de um {@code tick}.
+ */
+@Slf4j
+@Service
+public class SectionLifecycleRegistry implements SmartInitializingSingleton {
+
+    static final String CACHE_NAME = "section-lifecycle";
+
+    private final SectionRepository sectionRepository;
+    private final SectionLifecycleProperties properties;
+    private final HashedTimerWheel timerWheel;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, SectionLifecycle> lifecycles = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SectionLifecycleRegistry(SectionRepository sectionRepository, SectionLifecycleProperties properties,
+            MeterRegistry meterRegistry) {
+        this.sectionRepository = sectionRepository;
+        this.properties = properties;
+        this.timerWheel = new HashedTimerWheel(properties.tick(), properties.wheelSize(), "section-lifecycle-timer");
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "hit")
+            .description("Consultas atendidas pelo registro")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "miss")
+            .description("Consultas que precisaram acessar o banco")
+            .register(meterRegistry);
+        for (SectionStatus status : SectionStatus.values()) {
+            Gauge.builder("pauta.sections.lifecycle", this, registry -> registry.count(status))
+                .tag("status", status.name())
+                .description("Seções no registro por etapa do ciclo de vida")
+                .register(meterRegistry);
+        }
+        Gauge.builder("pauta.sections.lifecycle.timers", timerWheel, HashedTimerWheel::pending)
+            .description("Temporizadores de abertura e encerramento pendentes")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        timerWheel.stop();
+    }
+
+    /**
+     * Busca o ciclo de vida da seção, consultando o banco apenas quando ela não está no registro.
+     */
+    public Optional<SectionLifecycle> find(Long sectionId) {
+        SectionLifecycle lifecycle = lifecycles.get(sectionId);
+        if (lifecycle != null) {
+            hits.increment();
+            return Optional.of(lifecycle);
+        }
+
+        misses.increment();
+        log.debug("Seção {} não encontrada no registro. Consultando banco de dados", sectionId);
+        return sectionRepository.findById(sectionId).map(this::register);
+    }
+
+    /**
+     * Estado atual da seção já carregada, sem acessar o banco nem incluí-la no registro.
+     * Seções fora do registro têm o estado calculado pelas datas.
+     */
+    public SectionStatus statusOf(Section section, LocalDateTime now) {
+        SectionLifecycle lifecycle = lifecycles.get(section.getId());
+        return lifecycle != null ? lifecycle.getStatus() : SectionLifecycle.of(section, now).getStatus();
+    }
+
+    /**
+     * Inclui a seção no registro e agenda suas mudanças de estado.
+     * Seções já encerradas ficam no registro por {@code closedRetention}; com o registro cheio,
+     * a seção é devolvida sem ser registrada.
+     */
+    public SectionLifecycle register(Section section) {
+        LocalDateTime now = LocalDateTime.now();
+        SectionLifecycle lifecycle = SectionLifecycle.of(section, now);
+        if (lifecycles.size() >= properties.maxSize()) {
+            return lifecycle;
+        }
+        SectionLifecycle existing = lifecycles.putIfAbsent(section.getId(), lifecycle);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (lifecycle.getStatus() == SectionStatus.CLOSED) {
+            scheduleRemoval(lifecycle);
+            log.debug("Seção {} registrada já encerrada", section.getId());
+            return lifecycle;
+        }
+        if (lifecycle.getStatus() == SectionStatus.SCHEDULED) {
+            timerWheel.schedule(Duration.between(now, lifecycle.getStart()), lifecycle::open);
+        }
+        timerWheel.schedule(Duration.between(now, lifecycle.getEnd()), () -> close(lifecycle));
+        log.debug("Seção {} registrada com estado {}", section.getId(), lifecycle.getStatus());
+        return lifecycle;
+    }
+
+    public int size() {
+        return lifecycles.size();
+    }
+
+    private void close(SectionLifecycle lifecycle) {
+        lifecycle.close();
+        log.debug("Seção {} encerrada", lifecycle.getSectionId());
+        scheduleRemoval(lifecycle);
+    }
+
+    private void scheduleRemoval(SectionLifecycle lifecycle) {
+        timerWheel.schedule(properties.closedRetention(), () -> lifecycles.remove(lifecycle.getSectionId(), lifecycle));
+    }
+
+    private int count(SectionStatus status) {
+        return (int) lifecycles.values().stream().filter(lifecycle -> lifecycle.getStatus() == status).count();
+    }
+
+    /**
+     * Estado de uma seção. As mudanças são feitas apenas pela thread da roda de temporizadores.
+     */
+    public static final class SectionLifecycle {
+        private final Long sectionId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private volatile SectionStatus status;
+
+        private SectionLifecycle(Long sectionId, LocalDateTime start, LocalDateTime end, SectionStatus status) {
+            this.sectionId = sectionId;
+            this.start = start;
+            this.end = end;
+            this.status = status;
+        }
+
+        public static SectionLifecycle of(Section section, LocalDateTime now) {
+            LocalDateTime start = section.getStart_at();
+            LocalDateTime end = start.plusMinutes(section.getExpiration());
+            SectionStatus status = now.isBefore(start) ? SectionStatus.SCHEDULED
+                    : now.isAfter(end) ? SectionStatus.CLOSED : SectionStatus.OPEN;
+            return new SectionLifecycle(section.getId(), start, end, status);
+        }
+
+        void open() {
+            if (status == SectionStatus.SCHEDULED) {
+                status = SectionStatus.OPEN;
+            }
+        }
+
+        void close() {
+            status = SectionStatus.CLOSED;
+        }
+
+        public Long getSectionId() {
+            return sectionId;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        public SectionStatus getStatus() {
+            return status;
+        }
+    }
+}
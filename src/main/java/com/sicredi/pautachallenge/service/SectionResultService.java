@@ -0,0 +1,157 @@
+package com.sicredi.pautachallenge.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.config.SectionClosingProperties;
+import com.sicredi.pautachallenge.domain.model.SectionResult;
+import com.sicredi.pautachallenge.repository.SectionResultRepository;
+
+/**
+ * Encerramento de seções expiradas.
+ * A cada {@code interval}, as seções expiradas há mais de {@code grace} que ainda não possuem resultado
+ * são encerradas em paralelo (até {@code parallelism} ao mesmo tempo): o resultado final é calculado uma única vez
+ * a partir de section_tally e gravado em section_results. A listagem consulta os resultados apenas das seções
+ * da página ({@link #findAll(Collection)}), de modo que memória e inicialização não crescem com o histórico.
+ */
+@Slf4j
+@Service
+public class SectionResultService implements SmartInitializingSingleton {
+
+    private final SectionResultRepository sectionResultRepository;
+    private final SectionClosingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter closedCounter;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService closingPool;
+
+    public SectionResultService(SectionResultRepository sectionResultRepository, SectionClosingProperties properties,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.sectionResultRepository = sectionResultRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.closedCounter = Counter.builder("pauta.sections.closed")
+            .description("Seções encerradas com resultado gravado")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        closingPool = Executors.newFixedThreadPool(properties.parallelism(), namedThreads("section-closer"));
+        if (!properties.enabled()) {
+            log.info("Encerramento automático de seções desabilitado");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(namedThreads("section-closing-scheduler"));
+        long interval = properties.interval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runScheduled, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Encerramento de seções iniciado. Intervalo: {}, paralelismo: {}", properties.interval(), properties.parallelism());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (closingPool != null) {
+            closingPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Resultados gravados das seções informadas, por id da seção; seções ainda não encerradas ficam de fora.
+     */
+    public Map<Long, SectionResult> findAll(Collection<Long> sectionIds) {
+        if (sectionIds.isEmpty()) {
+            return Map.of();
+        }
+        return sectionResultRepository.findAllById(sectionIds).stream()
+            .collect(Collectors.toMap(SectionResult::getSectionId, Function.identity()));
+    }
+
+    /**
+     * Encerra as seções expiradas há mais de {@code grace}, em lotes de até {@code batchSize}.
+     *
+     * @return quantidade de seções encerradas
+     */
+    public int closeExpiredSections() {
+        long expiredBefore = LocalDateTime.now().minus(properties.grace()).toEpochSecond(ZoneOffset.UTC);
+        int closed = 0;
+        while (true) {
+            List<Long> sectionIds = sectionResultRepository.findSectionIdsToClose(expiredBefore,
+                    PageRequest.of(0, properties.batchSize()));
+            if (sectionIds.isEmpty()) {
+                break;
+            }
+            log.debug("Encerrando {} seções expiradas", sectionIds.size());
+            AtomicInteger failures = new AtomicInteger();
+            List<CompletableFuture<Void>> closing = sectionIds.stream()
+                .map(sectionId -> CompletableFuture.runAsync(() -> close(sectionId), closingPool)
+                    .exceptionally(error -> {
+                        log.error("Erro ao encerrar a seção {}", sectionId, error);
+                        failures.incrementAndGet();
+                        return null;
+                    }))
+                .toList();
+            CompletableFuture.allOf(closing.toArray(CompletableFuture[]::new)).join();
+            closed += sectionIds.size() - failures.get();
+            if (failures.get() > 0) {
+                // As seções com erro voltariam na próxima consulta; tenta novamente no próximo ciclo
+                break;
+            }
+        }
+        if (closed > 0) {
+            log.info("{} seções encerradas", closed);
+        }
+        return closed;
+    }
+
+    void close(Long sectionId) {
+        SectionResult result = transactionTemplate.execute(status -> {
+            if (sectionResultRepository.insertFromTally(sectionId, LocalDateTime.now()) > 0) {
+                closedCounter.increment();
+            }
+            return sectionResultRepository.findById(sectionId).orElseThrow();
+        });
+        log.debug("Seção {} encerrada. Sim: {}, Não: {}", sectionId, result.getVotesTrue(), result.getVotesFalse());
+    }
+
+    private void runScheduled() {
+        try {
+            closeExpiredSections();
+        } catch (RuntimeException e) {
+            log.error("Erro inesperado no encerramento de seções", e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,30 +1,152 @@
 package com.sicredi.pautachallenge.service;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.sicredi.pautachallenge.domain.dto.SectionDTO;
+import com.sicredi.pautachallenge.domain.dto.SectionPage;
+import com.sicredi.pautachallenge.domain.dto.SectionQuery;
+import com.sicredi.pautachallenge.domain.dto.SectionVotesDTO;
 import com.sicredi.pautachallenge.domain.interfaces.SectionWithVotesCount;
 import com.sicredi.pautachallenge.domain.model.Section;
 import com.sicredi.pautachallenge.domain.model.SectionBuilder;
+import com.sicredi.pautachallenge.domain.model.SectionResult;
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
 import com.sicredi.pautachallenge.repository.SectionRepository;
+import com.sicredi.pautachallenge.service.VoteTallyService.SectionTally;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SectionService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+    static final int STREAM_PAGE_SIZE = 500;
+
     private final SectionRepository sectionRepository;
+    private final VoteTallyService voteTallyService;
+    private final VoterIndex voterIndex;
+    private final SectionLifecycleRegistry sectionLifecycleRegistry;
+    private final SectionResultService sectionResultService;
+
+    /**
+     * Lista uma página de seções ordenadas por id, a partir do cursor informado.
+     * Apenas as seções da página são lidas do banco; as contagens vêm de {@link VoteTallyService} e {@link VoterIndex}.
+     */
+    public SectionPage getSectionsWithVotes(Long userId, SectionQuery query) {
+        log.debug("Buscando página de seções para o usuário: {}. Filtros: {}", userId, query);
+        validateQuery(query);
+
+        LocalDateTime now = LocalDateTime.now();
+        Boolean expired = switch (query.state()) {
+            case ALL -> null;
+            case OPEN -> false;
+            case EXPIRED -> true;
+        };
+        // Busca um registro a mais para saber se existe próxima página
+        List<Section> rows = sectionRepository.findPage(query.after(), query.from(), query.to(), expired,
+                now.toEpochSecond(ZoneOffset.UTC), PageRequest.of(0, query.limit() + 1));
+
+        boolean hasNext = rows.size() > query.limit();
+        List<Section> page = hasNext ? rows.subList(0, query.limit()) : rows;
+        Map<Long, SectionResult> results = findResults(page, now);
+        List<SectionWithVotesCount> sections = page.stream()
+            .map(section -> toSectionWithVotes(section, voterIndex.hasVoted(section.getId(), userId),
+                results.get(section.getId()), now))
+            .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        log.debug("Encontradas {} seções para o usuário: {}. Próximo cursor: {}", sections.size(), userId, nextCursor);
+        return new SectionPage(sections, nextCursor);
+    }
+
+    /**
+     * Entrega todas as seções, uma por vez, sem montar a lista completa em memória.
+     * As seções são lidas em páginas de {@value #STREAM_PAGE_SIZE} por id; cada página é uma consulta própria,
+     * então a conexão volta ao pool enquanto a página é escrita para o cliente, por mais lento que ele seja.
+     */
+    public void streamSectionsWithVotes(Long userId, Consumer<SectionWithVotesCount> consumer) {
+        log.debug("Transmitindo todas as seções para o usuário: {}", userId);
+        LocalDateTime now = LocalDateTime.now();
+        Long after = null;
+        List<Section> page;
+        do {
+            page = sectionRepository.findPage(after, null, null, null, now.toEpochSecond(ZoneOffset.UTC),
+                    PageRequest.of(0, STREAM_PAGE_SIZE));
+            Map<Long, SectionResult> results = findResults(page, now);
+            for (Section section : page) {
+                consumer.accept(toSectionWithVotes(section, voterIndex.hasVoted(section.getId(), userId),
+                    results.get(section.getId()), now));
+                after = section.getId();
+            }
+        } while (page.size() == STREAM_PAGE_SIZE);
+    }
+
+    private void validateQuery(SectionQuery query) {
+        if (query.limit() < 1 || query.limit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        if (query.from() != null && query.to() != null && !query.from().isBefore(query.to())) {
+            throw new IllegalArgumentException("A data inicial deve ser anterior à data final");
+        }
+    }
+
+    /**
+     * Resultados gravados das seções da página. Só seções expiradas podem ter sido encerradas,
+     * então as demais não são consultadas.
+     */
+    private Map<Long, SectionResult> findResults(List<Section> sections, LocalDateTime now) {
+        List<Long> expired = sections.stream()
+            .filter(section -> isExpired(section, now))
+            .map(Section::getId)
+            .toList();
+        return sectionResultService.findAll(expired);
+    }
+
+    private static boolean isExpired(Section section, LocalDateTime now) {
+        return now.isAfter(section.getStart_at().plusMinutes(section.getExpiration()));
+    }
 
-    public List<SectionWithVotesCount> getAllSectionsWithVotes(Long userId) {
-        log.debug("Buscando todas as seções com contagem de votos para o usuário: {}", userId);
-        List<SectionWithVotesCount> sections = sectionRepository.findAllWithVotesCount(userId);
-        log.debug("Encontradas {} seções para o usuário: {}", sections.size(), userId);
-        return sections;
+    /**
+     * O estado vem de {@link SectionLifecycleRegistry}, o mesmo usado na validação dos votos,
+     * para que a listagem não mostre como aberta uma seção que ainda recusa votos.
+     */
+    private SectionWithVotesCount toSectionWithVotes(Section section, boolean hasVoted, SectionResult result, LocalDateTime now) {
+        long votesTrue;
+        long votesFalse;
+        SectionStatus status;
+        if (result != null) {
+            // Seção encerrada: usa o resultado gravado no encerramento
+            votesTrue = result.getVotesTrue();
+            votesFalse = result.getVotesFalse();
+            status = SectionStatus.CLOSED;
+        } else {
+            SectionTally tally = voteTallyService.getTally(section.getId());
+            votesTrue = tally.getVotesTrue();
+            votesFalse = tally.getVotesFalse();
+            status = sectionLifecycleRegistry.statusOf(section, now);
+        }
+        return new SectionVotesDTO(
+            section.getId(),
+            section.getName(),
+            section.getDescription(),
+            section.getExpiration(),
+            section.getStart_at(),
+            votesTrue + votesFalse,
+            votesTrue,
+            votesFalse,
+            hasVoted,
+            status == SectionStatus.CLOSED,
+            status
+        );
     }
 
     public Section createSection(SectionDTO sectionDTO) {
@@ -32,17 +154,17 @@ public class SectionService {
         
         Section section = createSectionFromDTO(sectionDTO);
         Section savedSection = sectionRepository.save(section);
+        sectionLifecycleRegistry.register(savedSection);
         
         log.debug("Seção salva com sucesso. ID: {}, Nome: {}", savedSection.getId(), savedSection.getName());
         return savedSection;
     }
 
     private Section createSectionFromDTO(SectionDTO sectionDTO) {
-        return SectionBuilder.builder()
+        SectionBuilder builder = SectionBuilder.builder()
             .name(sectionDTO.name())
             .description(sectionDTO.description())
-            .expiration(sectionDTO.expiration())
-            .startNow()
-            .build();
+            .expiration(sectionDTO.expiration());
+        return (sectionDTO.startAt() != null ? builder.startAt(sectionDTO.startAt()) : builder.startNow()).build();
     }
 }
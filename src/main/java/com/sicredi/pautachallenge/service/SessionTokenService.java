@@ -0,0 +1,121 @@
+package com.sicredi.pautachallenge.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.SessionTokenProperties;
+import com.sicredi.pautachallenge.domain.dto.AuthResponseDTO;
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
+import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.exception.AuthenticationException;
+
+/**
+ * Emite e verifica tokens de sessão assinados com HMAC-SHA256.
+ * O token carrega o ID e o email do usuário, de forma que a verificação não consulta o banco de dados
+ * nem repete o BCrypt do login; um token só deixa de valer quando expira.
+ * Sem {@code pauta.auth.token.secret}, a aplicação só inicia nos perfis {@value #DEV_PROFILE} e {@value #TEST_PROFILE},
+ * com uma chave aleatória por processo.
+ */
+@Slf4j
+@Service
+public class SessionTokenService {
+
+    static final int MIN_SECRET_BYTES = 32;
+    static final String DEV_PROFILE = "dev";
+    static final String TEST_PROFILE = "test";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final SessionTokenProperties properties;
+    private final Clock clock;
+    private final SecretKey key;
+    private final Counter issued;
+    private final Counter rejected;
+
+    @Autowired
+    public SessionTokenService(SessionTokenProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        this(properties, meterRegistry, Clock.systemUTC(), environment.acceptsProfiles(Profiles.of(DEV_PROFILE, TEST_PROFILE)));
+    }
+
+    SessionTokenService(SessionTokenProperties properties, MeterRegistry meterRegistry, Clock clock, boolean randomKeyAllowed) {
+        this.properties = properties;
+        this.clock = clock;
+        this.key = Keys.hmacShaKeyFor(signingKey(properties.secret(), randomKeyAllowed));
+        this.issued = Counter.builder("pauta.auth.tokens")
+            .description("Tokens de sessão emitidos e recusados")
+            .tag("result", "issued")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("pauta.auth.tokens")
+            .description("Tokens de sessão emitidos e recusados")
+            .tag("result", "rejected")
+            .register(meterRegistry);
+    }
+
+    private static byte[] signingKey(String secret, boolean randomKeyAllowed) {
+        if (secret == null || secret.isBlank()) {
+            if (!randomKeyAllowed) {
+                throw new IllegalStateException("pauta.auth.token.secret é obrigatório fora dos perfis "
+                        + DEV_PROFILE + " e " + TEST_PROFILE);
+            }
+            log.warn("pauta.auth.token.secret não configurado. Usando chave aleatória; tokens deixam de valer ao reiniciar a aplicação");
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("pauta.auth.token.secret deve ter pelo menos " + MIN_SECRET_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    public AuthResponseDTO issue(UserResponseDTO user) {
+        Instant now = clock.instant();
+        String token = Jwts.builder()
+            .issuer(properties.issuer())
+            .subject(String.valueOf(user.id()))
+            .claim(EMAIL_CLAIM, user.email())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(properties.ttl())))
+            .signWith(key, Jwts.SIG.HS256)
+            .compact();
+        issued.increment();
+        log.debug("Token de sessão emitido para o usuário: {}", user.id());
+        return new AuthResponseDTO(user.id(), user.name(), user.cpf(), user.email(),
+                token, TOKEN_TYPE, properties.ttl().toSeconds());
+    }
+
+    public AuthenticatedUser verify(String token) {
+        try {
+            Claims claims = Jwts.parser()
+                .clock(() -> Date.from(clock.instant()))
+                .requireIssuer(properties.issuer())
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+            return new AuthenticatedUser(Long.valueOf(claims.getSubject()), claims.get(EMAIL_CLAIM, String.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected.increment();
+            log.debug("Token de sessão recusado: {}", e.getMessage());
+            throw new AuthenticationException("Token inválido ou expirado");
+        }
+    }
+}
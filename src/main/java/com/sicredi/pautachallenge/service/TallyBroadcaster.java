@@ -0,0 +1,302 @@
+package com.sicredi.pautachallenge.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sicredi.pautachallenge.config.TallyStreamProperties;
+import com.sicredi.pautachallenge.domain.dto.SectionTallyEvent;
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
+import com.sicredi.pautachallenge.exception.SectionNotFoundException;
+import com.sicredi.pautachallenge.service.SectionLifecycleRegistry.SectionLifecycle;
+
+/**
+ * Transmissão da contagem de votos por Server-Sent Events.
+ * Uma única thread consulta, a cada {@code interval}, a contagem em memória das seções com inscritos
+ * e envia um evento apenas quando ela mudou, de forma que votos recebidos no mesmo intervalo
+ * geram um único evento e o custo não cresce com o número de inscritos.
+ * A escrita nas conexões é feita por um pool de {@code senderThreads} threads, com no máximo um envio em andamento
+ * e um evento pendente por inscrito: um cliente lento recebe apenas a contagem mais recente, e um envio parado
+ * há mais de {@code maxLag} desconecta o cliente sem atrasar os demais.
+ * Quando a seção expira, o resultado final é enviado e as conexões são encerradas.
+ */
+@Slf4j
+@Service
+public class TallyBroadcaster implements SmartInitializingSingleton {
+
+    static final String EVENT_NAME = "tally";
+
+    private final TallyStreamProperties properties;
+    private final VoteTallyService voteTallyService;
+    private final SectionLifecycleRegistry sectionLifecycleRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final Executor sender;
+    private ScheduledExecutorService producer;
+    private volatile long lastPublishAt = System.nanoTime();
+
+    @Autowired
+    public TallyBroadcaster(TallyStreamProperties properties, VoteTallyService voteTallyService,
+            SectionLifecycleRegistry sectionLifecycleRegistry, MeterRegistry meterRegistry) {
+        this(properties, voteTallyService, sectionLifecycleRegistry, meterRegistry, createSender(properties.senderThreads()));
+    }
+
+    TallyBroadcaster(TallyStreamProperties properties, VoteTallyService voteTallyService,
+            SectionLifecycleRegistry sectionLifecycleRegistry, MeterRegistry meterRegistry, Executor sender) {
+        this.properties = properties;
+        this.voteTallyService = voteTallyService;
+        this.sectionLifecycleRegistry = sectionLifecycleRegistry;
+        this.meterRegistry = meterRegistry;
+        this.sender = sender;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Gauge.builder("pauta.sections.stream.subscribers", this, TallyBroadcaster::getSubscriberCount)
+            .description("Conexões SSE abertas acompanhando a contagem de votos")
+            .register(meterRegistry);
+        Gauge.builder("pauta.sections.stream.publish.age", this,
+                broadcaster -> (System.nanoTime() - broadcaster.lastPublishAt) / (double) TimeUnit.SECONDS.toNanos(1))
+            .baseUnit("seconds")
+            .description("Tempo desde a última rodada de transmissão da contagem de votos")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        producer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tally-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.interval().toMillis();
+        producer.scheduleWithFixedDelay(this::publish, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Transmissão de contagem de votos iniciada. Intervalo: {}", properties.interval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        producer.shutdownNow();
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        channels.clear();
+        log.info("Transmissão de contagem de votos encerrada");
+    }
+
+    /**
+     * Inscreve um cliente na contagem da seção. O primeiro evento, com a contagem atual, é enviado imediatamente.
+     */
+    public SseEmitter subscribe(Long sectionId) {
+        SectionLifecycle lifecycle = sectionLifecycleRegistry.find(sectionId)
+            .orElseThrow(SectionNotFoundException::new);
+
+        SseEmitter emitter = createEmitter();
+        SectionTallyEvent current = snapshot(sectionId, lifecycle);
+        if (!send(emitter, current)) {
+            return emitter;
+        }
+        if (current.isExpired()) {
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(sectionId, emitter);
+        Channel channel = channels.compute(sectionId, (id, existing) -> {
+            Channel target = existing != null ? existing : new Channel(lifecycle, current);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        Runnable remove = () -> unsubscribe(sectionId, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        log.debug("Cliente inscrito na contagem da seção {}. Inscritos: {}", sectionId, channel.subscribers.size());
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.timeout().toMillis());
+    }
+
+    /**
+     * A fila do pool tem no máximo uma tarefa por inscrito, pois cada inscrito só agenda um envio por vez.
+     */
+    private static Executor createSender(int senderThreads) {
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "tally-sender-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void publish() {
+        try {
+            channels.forEach(this::publish);
+            lastPublishAt = System.nanoTime();
+        } catch (RuntimeException e) {
+            log.error("Erro inesperado ao transmitir contagem de votos", e);
+        }
+    }
+
+    private void publish(Long sectionId, Channel channel) {
+        SectionTallyEvent event = snapshot(sectionId, channel.lifecycle);
+        if (event.equals(channel.lastSent)) {
+            return;
+        }
+        channel.lastSent = event;
+        long now = System.nanoTime();
+        for (Subscriber subscriber : channel.subscribers) {
+            if (subscriber.isLagging(now)) {
+                log.debug("Cliente da seção {} sem consumir eventos há mais de {}. Desconectando", sectionId, properties.maxLag());
+                subscriber.drop();
+            } else {
+                subscriber.offer(event);
+            }
+        }
+
+        if (event.isExpired()) {
+            // Cada inscrito encerra a conexão depois de enviar o resultado final
+            log.debug("Seção {} expirada. Encerrando {} conexões", sectionId, channel.subscribers.size());
+            channels.remove(sectionId, channel);
+        }
+    }
+
+    private void unsubscribe(Long sectionId, Subscriber subscriber) {
+        channels.computeIfPresent(sectionId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private SectionTallyEvent snapshot(Long sectionId, SectionLifecycle lifecycle) {
+        VoteTallyService.SectionTally tally = voteTallyService.getTally(sectionId);
+        long votesTrue = tally.getVotesTrue();
+        long votesFalse = tally.getVotesFalse();
+        return new SectionTallyEvent(sectionId, votesTrue + votesFalse, votesTrue, votesFalse,
+                lifecycle.getStatus() == SectionStatus.CLOSED);
+    }
+
+    private boolean send(SseEmitter emitter, SectionTallyEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Conexão SSE encerrada pelo cliente: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private final class Subscriber {
+        private final Long sectionId;
+        private final SseEmitter emitter;
+        private final AtomicReference<SectionTallyEvent> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long sendingSince;
+        private volatile boolean dropped;
+
+        private Subscriber(Long sectionId, SseEmitter emitter) {
+            this.sectionId = sectionId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Substitui o evento pendente e agenda o envio, se ainda não houver um agendado.
+         */
+        void offer(SectionTallyEvent event) {
+            pending.set(event);
+            schedule();
+        }
+
+        boolean isLagging(long now) {
+            long since = sendingSince;
+            return since != 0 && now - since > properties.maxLag().toNanos();
+        }
+
+        /**
+         * Remove o inscrito sem tocar no emitter: send e complete são sincronizados no SseEmitter, e chamá-lo aqui
+         * bloquearia a thread produtora atrás do envio parado. A thread do envio encerra a conexão quando ele retornar.
+         */
+        void drop() {
+            dropped = true;
+            unsubscribe(sectionId, this);
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            SectionTallyEvent event;
+            while ((event = pending.getAndSet(null)) != null) {
+                sendingSince = System.nanoTime();
+                boolean sent = send(emitter, event);
+                sendingSince = 0;
+                if (!sent) {
+                    unsubscribe(sectionId, this);
+                    return;
+                }
+                if (dropped) {
+                    emitter.completeWithError(new IOException("Cliente SSE lento"));
+                    return;
+                }
+                if (event.isExpired()) {
+                    emitter.complete();
+                    return;
+                }
+            }
+            scheduled.set(false);
+            // Um evento oferecido entre o último getAndSet e a liberação do agendamento
+            if (pending.get() != null) {
+                schedule();
+            }
+        }
+    }
+
+    private static final class Channel {
+        private final SectionLifecycle lifecycle;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile SectionTallyEvent lastSent;
+
+        private Channel(SectionLifecycle lifecycle, SectionTallyEvent lastSent) {
+            this.lifecycle = lifecycle;
+            this.lastSent = lastSent;
+        }
+    }
+}
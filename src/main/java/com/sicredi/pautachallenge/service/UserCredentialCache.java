@@ -0,0 +1,114 @@
+package com.sicredi.pautachallenge.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.UserCacheProperties;
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+import com.sicredi.pautachallenge.repository.UserRepository;
+
+/**
+ * Cache de usuários por email, usado no login e nas consultas por email.
+ * Cada usuário permanece no cache por até {@code ttl}; alterações feitas por esta instância devem chamar
+ * {@link #invalidate(String)}. Emails inexistentes não são guardados, e com o cache cheio, mesmo após
+ * remover os vencidos, o usuário é devolvido sem ser guardado.
+ */
+@Slf4j
+@Service
+public class UserCredentialCache {
+
+    static final String CACHE_NAME = "user-credentials";
+
+    private final UserRepository userRepository;
+    private final UserCacheProperties properties;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, CachedUser> users = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public UserCredentialCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this(userRepository, properties, meterRegistry, System::nanoTime);
+    }
+
+    UserCredentialCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "hit")
+            .description("Consultas atendidas pelo cache")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "miss")
+            .description("Consultas que precisaram acessar o banco")
+            .register(meterRegistry);
+        Gauge.builder("cache.size", users, Map::size)
+            .tag("cache", CACHE_NAME)
+            .description("Usuários em cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Busca o usuário pelo email, consultando o banco apenas quando ele não está no cache ou venceu.
+     */
+    public UserEntity findByEmail(String email) {
+        if (!properties.enabled()) {
+            return userRepository.findByEmail(email);
+        }
+
+        long now = nanoClock.getAsLong();
+        CachedUser cached = users.get(email);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            hits.increment();
+            return cached.user();
+        }
+
+        misses.increment();
+        UserEntity user = userRepository.findByEmail(email);
+        if (user != null) {
+            put(email, user, now);
+        } else if (cached != null) {
+            users.remove(email, cached);
+        }
+        return user;
+    }
+
+    public void invalidate(String email) {
+        if (users.remove(email) != null) {
+            log.debug("Usuário removido do cache: {}", email);
+        }
+    }
+
+    public void invalidateAll() {
+        users.clear();
+        log.debug("Cache de usuários esvaziado");
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    private void put(String email, UserEntity user, long now) {
+        if (users.size() >= properties.maxSize() && !users.containsKey(email)) {
+            users.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (users.size() >= properties.maxSize()) {
+                return;
+            }
+        }
+        users.put(email, new CachedUser(user, now + properties.ttl().toNanos()));
+    }
+
+    private record CachedUser(UserEntity user, long expiresAt) {}
+}
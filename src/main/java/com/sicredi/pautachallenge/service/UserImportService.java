@@ -0,0 +1,233 @@
+package com.sicredi.pautachallenge.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.UserImportProperties;
+import com.sicredi.pautachallenge.domain.dto.UserDTO;
+import com.sicredi.pautachallenge.domain.dto.UserImportReport;
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
+import com.sicredi.pautachallenge.infra.mapper.UserMapper;
+import com.sicredi.pautachallenge.repository.UserRepository;
+
+/**
+ * Importação de usuários a partir de um CSV com as colunas name, cpf, password e email, em qualquer ordem.
+ * O arquivo é lido em lotes de {@code batchSize} linhas: cada linha é validada com as regras de {@link UserDTO},
+ * as senhas do lote são criptografadas no {@link PasswordHasher} com no máximo {@code parallelism} tarefas em andamento,
+ * para que a importação use só uma parte do pool compartilhado com o login e o cadastro, e o lote é gravado
+ * com uma inserção JDBC em lote. Com a fila do {@link PasswordHasher} cheia, a importação aguarda e tenta novamente. Apenas um lote e as primeiras {@code maxErrors} linhas recusadas ficam em memória,
+ * qualquer que seja o tamanho do arquivo.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    static final List<String> COLUMNS = List.of("name", "cpf", "password", "email");
+    static final String DUPLICATE_MESSAGE = "Email ou CPF já cadastrado";
+    private static final Duration OVERLOAD_PAUSE = Duration.ofMillis(50);
+
+    private final UserImportProperties properties;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final Validator validator;
+    private final PasswordHasher passwordHasher;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+
+    public UserImportService(UserImportProperties properties, UserRepository userRepository, UserMapper userMapper,
+            Validator validator, PasswordHasher passwordHasher, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.validator = validator;
+        this.passwordHasher = passwordHasher;
+        this.importedCounter = Counter.builder("pauta.users.import")
+            .description("Linhas importadas e recusadas na importação de usuários")
+            .tag("result", "imported")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("pauta.users.import")
+            .description("Linhas importadas e recusadas na importação de usuários")
+            .tag("result", "rejected")
+            .register(meterRegistry);
+    }
+
+    public UserImportReport importCsv(InputStream input) throws IOException {
+        log.info("Iniciando importação de usuários. Lote: {}, criptografias simultâneas: {}",
+                properties.batchSize(), properties.effectiveParallelism());
+        CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        int[] positions = readHeader(reader.next());
+
+        Report report = new Report(properties.maxErrors());
+        List<Row> batch = new ArrayList<>(properties.batchSize());
+        List<String> fields;
+        while ((fields = reader.next()) != null) {
+            report.rows++;
+            Row row = toRow(reader.recordLine(), fields, positions, report);
+            if (row == null) {
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() >= properties.batchSize()) {
+                writeBatch(batch, report);
+                batch.clear();
+            }
+        }
+        writeBatch(batch, report);
+
+        log.info("Importação de usuários concluída. Linhas: {}, importadas: {}, recusadas: {}",
+                report.rows, report.imported, report.rejected);
+        return report.toReport();
+    }
+
+    private int[] readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio");
+        }
+        int[] positions = new int[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                String name = header.get(j).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                if (name.equals(COLUMNS.get(i))) {
+                    positions[i] = j;
+                }
+            }
+            if (positions[i] < 0) {
+                throw new IllegalArgumentException("Cabeçalho do CSV deve conter as colunas: " + String.join(", ", COLUMNS));
+            }
+        }
+        return positions;
+    }
+
+    private Row toRow(long line, List<String> fields, int[] positions, Report report) {
+        for (int position : positions) {
+            if (position >= fields.size()) {
+                report.reject(line, "Quantidade de colunas inválida");
+                return null;
+            }
+        }
+        UserDTO userDTO = new UserDTO(fields.get(positions[0]).trim(), fields.get(positions[1]).trim(),
+                fields.get(positions[2]), fields.get(positions[3]).trim());
+
+        Set<ConstraintViolation<UserDTO>> violations = validator.validate(userDTO);
+        if (!violations.isEmpty()) {
+            report.reject(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return new Row(line, userDTO);
+    }
+
+    private void writeBatch(List<Row> batch, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<UserEntity> users = hashPasswords(batch);
+
+        boolean[] inserted;
+        try {
+            inserted = userRepository.insertBatchIfAbsent(users);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Conflito de email ou CPF no lote de {} usuários. Gravando individualmente", users.size());
+            inserted = new boolean[users.size()];
+            for (int i = 0; i < users.size(); i++) {
+                inserted[i] = userRepository.insertIfAbsent(users.get(i));
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (inserted[i]) {
+                report.imported++;
+                importedCounter.increment();
+            } else {
+                report.reject(batch.get(i).line(), DUPLICATE_MESSAGE);
+            }
+        }
+        log.debug("Lote de {} usuários gravado", batch.size());
+    }
+
+    /**
+     * Criptografa as senhas do lote mantendo no máximo {@code parallelism} tarefas no {@link PasswordHasher}.
+     */
+    private List<UserEntity> hashPasswords(List<Row> batch) {
+        int parallelism = properties.effectiveParallelism();
+        List<CompletableFuture<String>> hashes = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (i >= parallelism) {
+                hashes.get(i - parallelism).join();
+            }
+            hashes.add(encode(batch.get(i).user().password()));
+        }
+
+        List<UserEntity> users = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            UserEntity user = userMapper.toEntity(batch.get(i).user());
+            user.setPassword(hashes.get(i).join());
+            users.add(user);
+        }
+        return users;
+    }
+
+    private CompletableFuture<String> encode(String password) {
+        while (true) {
+            try {
+                return passwordHasher.encode(password);
+            } catch (ServiceOverloadedException e) {
+                log.debug("Fila de criptografia cheia. Importação aguardando {}", OVERLOAD_PAUSE);
+                try {
+                    Thread.sleep(OVERLOAD_PAUSE);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Importação de usuários interrompida", interrupted);
+                }
+            }
+        }
+    }
+
+    private record Row(long line, UserDTO user) {}
+
+    private final class Report {
+        private final int maxErrors;
+        private final List<UserImportReport.RowError> errors = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long rejected;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            rejectedCounter.increment();
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportReport.RowError(line, message));
+            }
+        }
+
+        private UserImportReport toReport() {
+            return new UserImportReport(rows, imported, rejected, List.copyOf(errors), rejected > errors.size());
+        }
+    }
+}
@@ -1,86 +1,134 @@
 package com.sicredi.pautachallenge.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.sicredi.pautachallenge.domain.dto.UserDTO;
+import com.sicredi.pautachallenge.domain.dto.UserPage;
 import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
 import com.sicredi.pautachallenge.domain.interfaces.UserLoginRequest;
 import com.sicredi.pautachallenge.domain.model.UserEntity;
 import com.sicredi.pautachallenge.exception.AuthenticationException;
 import com.sicredi.pautachallenge.infra.mapper.UserMapper;
 import com.sicredi.pautachallenge.repository.UserRepository;
-import com.sicredi.pautachallenge.utils.BcryptUtils;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class UserService {
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final PasswordHasher passwordHasher;
+    private final UserCredentialCache userCredentialCache;
 
-    public List<UserResponseDTO> getUsers() {
-        log.debug("Buscando todos os usuários");
-        List<UserResponseDTO> users = userRepository.findAll().stream()
-                .map(userMapper::toResponseDTO)
-                .collect(Collectors.toList());
-        log.debug("Encontrados {} usuários", users.size());
-        return users;
+    public UserPage getUsers(Long after, int limit) {
+        log.debug("Buscando página de usuários. Cursor: {}, limite: {}", after, limit);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+
+        // Busca um registro a mais para saber se existe próxima página
+        List<UserResponseDTO> rows = userRepository.findPage(after, PageRequest.of(0, limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<UserResponseDTO> users = hasNext ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasNext ? users.get(users.size() - 1).id() : null;
+
+        log.debug("Encontrados {} usuários. Próximo cursor: {}", users.size(), nextCursor);
+        return new UserPage(users, nextCursor);
     }
 
-    public UserResponseDTO createUser(UserDTO userDTO) {
+    /**
+     * Cria o usuário com um único INSERT. Email e CPF duplicados são detectados pelas restrições únicas
+     * da tabela users, o que também cobre cadastros simultâneos com os mesmos dados.
+     */
+    public CompletableFuture<UserResponseDTO> createUser(UserDTO userDTO) {
         log.info("Criando um novo usuário com o email: {}", userDTO.email());
         
-        validateUserUniqueness(userDTO);
-        
-        UserEntity userEntity = createUserEntity(userDTO);
-        UserEntity savedUser = userRepository.save(userEntity);
-        
-        log.info("Usuário criado com sucesso. ID: {}, Email: {}", savedUser.getId(), savedUser.getEmail());
-        return userMapper.toResponseDTO(savedUser);
-    }
-
-    private void validateUserUniqueness(UserDTO userDTO) {
-        validateEmailUniqueness(userDTO.email());
-        validateCpfUniqueness(userDTO.cpf());
+        return passwordHasher.encode(userDTO.password()).thenApply(encryptedPassword -> {
+            UserEntity userEntity = createUserEntity(userDTO, encryptedPassword);
+            UserEntity savedUser = save(userEntity);
+            userCredentialCache.invalidate(savedUser.getEmail());
+            
+            log.info("Usuário criado com sucesso. ID: {}, Email: {}", savedUser.getId(), savedUser.getEmail());
+            return userMapper.toResponseDTO(savedUser);
+        });
     }
 
-    private void validateEmailUniqueness(String email) {
-        log.debug("Verificando se email já está cadastrado: {}", email);
-        if (userRepository.findByEmail(email) != null) {
-            log.warn("Tentativa de criar usuário com email já cadastrado: {}", email);
-            throw new IllegalArgumentException("Email já cadastrado");
+    private UserEntity save(UserEntity userEntity) {
+        try {
+            return userRepository.save(userEntity);
+        } catch (DataIntegrityViolationException e) {
+            String constraint = violatedConstraint(e);
+            if (UserEntity.EMAIL_CONSTRAINT.equals(constraint)) {
+                log.warn("Tentativa de criar usuário com email já cadastrado: {}", userEntity.getEmail());
+                throw new IllegalArgumentException("Email já cadastrado");
+            }
+            if (UserEntity.CPF_CONSTRAINT.equals(constraint)) {
+                log.warn("Tentativa de criar usuário com CPF já cadastrado: {}", userEntity.getCpf());
+                throw new IllegalArgumentException("CPF já cadastrado");
+            }
+            throw e;
         }
     }
 
-    private void validateCpfUniqueness(String cpf) {
-        log.debug("Verificando se CPF já está cadastrado: {}", cpf);
-        if (userRepository.findByCpf(cpf) != null) {
-            log.warn("Tentativa de criar usuário com CPF já cadastrado: {}", cpf);
-            throw new IllegalArgumentException("CPF já cadastrado");
+    /**
+     * Nome da restrição violada, normalizado para as constantes de {@link UserEntity}.
+     * Restrições antigas com nomes gerados pelo Hibernate são renomeadas ou removidas na inicialização
+     * ({@code UsersSchemaInitializer}), então apenas os nomes de {@link UserEntity} precisam ser reconhecidos.
+     * Nem todo driver informa o nome separadamente (o H2 o inclui apenas na mensagem, em maiúsculas),
+     * por isso também são verificadas as mensagens das causas.
+     */
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String text = cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    ? violation.getConstraintName() : cause.getMessage();
+            if (text == null) {
+                continue;
+            }
+            text = text.toLowerCase(Locale.ROOT);
+            if (text.contains(UserEntity.EMAIL_CONSTRAINT)) {
+                return UserEntity.EMAIL_CONSTRAINT;
+            }
+            if (text.contains(UserEntity.CPF_CONSTRAINT)) {
+                return UserEntity.CPF_CONSTRAINT;
+            }
         }
+        return null;
     }
 
-    private UserEntity createUserEntity(UserDTO userDTO) {
-        log.debug("Convertendo DTO para entidade e criptografando senha");
+    private UserEntity createUserEntity(UserDTO userDTO, String encryptedPassword) {
+        log.debug("Convertendo DTO para entidade com a senha criptografada");
         UserEntity userEntity = userMapper.toEntity(userDTO);
-        userEntity.setPassword(BcryptUtils.encryptPassword(userEntity.getPassword()));
+        userEntity.setPassword(encryptedPassword);
         return userEntity;
     }
 
-    public void authenticate(String email, String password) {
+    public CompletableFuture<Void> authenticate(String email, String password) {
+        return verifyCredentials(email, password).thenAccept(user -> {});
+    }
+
+    private CompletableFuture<UserEntity> verifyCredentials(String email, String password) {
         log.debug("Tentativa de autenticação para o email: {}", email);
         UserEntity user = findUserByEmail(email);
-        validatePassword(user, password);
-        log.info("Autenticação realizada com sucesso para o email: {}", email);
+        return passwordHasher.matches(password, user.getPassword()).thenApply(matches -> {
+            validatePassword(user, matches);
+            log.info("Autenticação realizada com sucesso para o email: {}", email);
+            return user;
+        });
     }
 
     private UserEntity findUserByEmail(String email) {
-        UserEntity user = userRepository.findByEmail(email);
+        UserEntity user = userCredentialCache.findByEmail(email);
         if (user == null) {
             log.warn("Tentativa de login com email inexistente: {}", email);
             throw new AuthenticationException("Credenciais inválidas!");
@@ -88,8 +136,8 @@ public class UserService {
         return user;
     }
 
-    private void validatePassword(UserEntity user, String password) {
-        if (!BcryptUtils.comparePasswords(password, user.getPassword())) {
+    private void validatePassword(UserEntity user, boolean matches) {
+        if (!matches) {
             log.warn("Tentativa de login com senha incorreta para o email: {}", user.getEmail());
             throw new AuthenticationException("Credenciais inválidas!");
         }
@@ -97,7 +145,7 @@ public class UserService {
 
     public UserResponseDTO findUser(String email) {
         log.debug("Buscando usuário pelo email: {}", email);
-        UserEntity user = userRepository.findByEmail(email);
+        UserEntity user = userCredentialCache.findByEmail(email);
         if (user != null) {
             log.debug("Usuário encontrado. ID: {}, Email: {}", user.getId(), user.getEmail());
             return userMapper.toResponseDTO(user);
@@ -106,15 +154,26 @@ public class UserService {
         return null;
     }
 
-    public UserResponseDTO login(UserLoginRequest userBody) {
+    public UserResponseDTO findUserById(Long id) {
+        log.debug("Buscando usuário pelo ID: {}", id);
+        return userRepository.findById(id)
+                .map(userMapper::toResponseDTO)
+                .orElseThrow(() -> {
+                    log.warn("Usuário do token de sessão não encontrado. ID: {}", id);
+                    return new AuthenticationException("Credenciais inválidas!");
+                });
+    }
+
+    public CompletableFuture<UserResponseDTO> login(UserLoginRequest userBody) {
         log.info("Tentativa de login para o email: {}", userBody.email());
         
-        authenticate(userBody.email(), userBody.password());
-        UserResponseDTO user = findUser(userBody.email());
-        
-        log.info("Login realizado com sucesso para o email: {}", userBody.email());
-        log.debug("Retornando dados do usuário: {}", user.email());
-        
-        return user;
+        return verifyCredentials(userBody.email(), userBody.password()).thenApply(authenticated -> {
+            UserResponseDTO user = userMapper.toResponseDTO(authenticated);
+            
+            log.info("Login realizado com sucesso para o email: {}", userBody.email());
+            log.debug("Retornando dados do usuário: {}", user.email());
+            
+            return user;
+        });
     }
 }
@@ -0,0 +1,145 @@
+package com.sicredi.pautachallenge.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.VoteBatchProperties;
+import com.sicredi.pautachallenge.domain.dto.VoteBatchResult;
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.model.VoteOutcome;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.exception.SectionExpiredException;
+import com.sicredi.pautachallenge.exception.SectionNotFoundException;
+import com.sicredi.pautachallenge.exception.SectionNotOpenException;
+import com.sicredi.pautachallenge.service.VotesService.RejectionReason;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteBatchService {
+
+    private final VotesService votesService;
+    private final VoteBatchWriter voteBatchWriter;
+    private final Validator validator;
+    private final VoteBatchProperties properties;
+
+    public List<VoteBatchResult> createVotes(List<VoteDTO> voteDTOs) {
+        validateBatchSize(voteDTOs);
+        log.info("Processando lote de {} votos", voteDTOs.size());
+
+        VoteOutcome[] outcomes = new VoteOutcome[voteDTOs.size()];
+        Map<Long, VoteOutcome> sectionOutcomes = new HashMap<>();
+        Set<Long> userIds = new LinkedHashSet<>();
+
+        for (int i = 0; i < voteDTOs.size(); i++) {
+            VoteDTO voteDTO = voteDTOs.get(i);
+            if (voteDTO == null || !validator.validate(voteDTO).isEmpty()) {
+                outcomes[i] = VoteOutcome.INVALID;
+                continue;
+            }
+
+            if (!sectionOutcomes.containsKey(voteDTO.sectionId())) {
+                sectionOutcomes.put(voteDTO.sectionId(), checkSection(voteDTO.sectionId()));
+            }
+            outcomes[i] = sectionOutcomes.get(voteDTO.sectionId());
+            if (outcomes[i] == null) {
+                userIds.add(voteDTO.userId());
+            }
+        }
+
+        // Uma consulta por usuário distinto, todas em paralelo e sob o mesmo prazo
+        Map<Long, Boolean> eligible = userIds.isEmpty() ? Map.of() : votesService.checkEligibility(userIds);
+        Set<VoteKey> accepted = new HashSet<>();
+        List<Votes> candidates = new ArrayList<>();
+        List<Integer> candidateIndexes = new ArrayList<>();
+        for (int i = 0; i < voteDTOs.size(); i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            VoteDTO voteDTO = voteDTOs.get(i);
+            if (!eligible.get(voteDTO.userId())) {
+                outcomes[i] = VoteOutcome.UNABLE_TO_VOTE;
+            } else if (!accepted.add(new VoteKey(voteDTO.sectionId(), voteDTO.userId()))) {
+                outcomes[i] = VoteOutcome.DUPLICATE;
+            } else {
+                candidates.add(createVoteFromDTO(voteDTO));
+                candidateIndexes.add(i);
+            }
+        }
+
+        boolean[] inserted = voteBatchWriter.write(candidates);
+        Long[] voteIds = new Long[voteDTOs.size()];
+        for (int j = 0; j < candidates.size(); j++) {
+            int index = candidateIndexes.get(j);
+            outcomes[index] = inserted[j] ? VoteOutcome.CREATED : VoteOutcome.DUPLICATE;
+            voteIds[index] = inserted[j] ? candidates.get(j).getId() : null;
+        }
+
+        List<VoteBatchResult> results = new ArrayList<>(voteDTOs.size());
+        for (int i = 0; i < voteDTOs.size(); i++) {
+            VoteDTO voteDTO = voteDTOs.get(i);
+            count(outcomes[i]);
+            results.add(new VoteBatchResult(i,
+                    voteDTO != null ? voteDTO.sectionId() : null,
+                    voteDTO != null ? voteDTO.userId() : null,
+                    outcomes[i], voteIds[i]));
+        }
+        log.info("Lote de {} votos processado. Votos criados: {}", voteDTOs.size(),
+                results.stream().filter(result -> result.outcome() == VoteOutcome.CREATED).count());
+        return results;
+    }
+
+    private void validateBatchSize(List<VoteDTO> voteDTOs) {
+        if (voteDTOs.isEmpty() || voteDTOs.size() > properties.maxSize()) {
+            log.warn("Lote de votos com tamanho inválido: {}", voteDTOs.size());
+            throw new IllegalArgumentException("O lote deve conter entre 1 e " + properties.maxSize() + " votos");
+        }
+    }
+
+    private VoteOutcome checkSection(Long sectionId) {
+        try {
+            votesService.validateSection(sectionId);
+            return null;
+        } catch (SectionNotFoundException e) {
+            return VoteOutcome.SECTION_NOT_FOUND;
+        } catch (SectionExpiredException e) {
+            return VoteOutcome.EXPIRED_SECTION;
+        } catch (SectionNotOpenException e) {
+            return VoteOutcome.SECTION_NOT_OPEN;
+        }
+    }
+
+    private void count(VoteOutcome outcome) {
+        switch (outcome) {
+            case CREATED -> votesService.recordProcessed(VoteStatus.ABLE_TO_VOTE);
+            case UNABLE_TO_VOTE -> votesService.recordProcessed(VoteStatus.UNABLE_TO_VOTE);
+            case DUPLICATE -> votesService.recordRejected(RejectionReason.DUPLICATE);
+            case EXPIRED_SECTION -> votesService.recordRejected(RejectionReason.EXPIRED);
+            case SECTION_NOT_FOUND -> votesService.recordRejected(RejectionReason.SECTION_NOT_FOUND);
+            case SECTION_NOT_OPEN -> votesService.recordRejected(RejectionReason.SECTION_NOT_OPEN);
+            case INVALID -> votesService.recordRejected(RejectionReason.INVALID);
+        }
+    }
+
+    private Votes createVoteFromDTO(VoteDTO voteDTO) {
+        Votes votes = new Votes();
+        votes.setUserId(voteDTO.userId());
+        votes.setSectionId(voteDTO.sectionId());
+        votes.setVote(voteDTO.vote());
+        votes.setStatus(VoteStatus.ABLE_TO_VOTE);
+        return votes;
+    }
+
+    private record VoteKey(Long sectionId, Long userId) {}
+}
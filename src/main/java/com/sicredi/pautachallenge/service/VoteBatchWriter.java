@@ -0,0 +1,85 @@
+package com.sicredi.pautachallenge.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.repository.VotesRepository;
+
+/**
+ * Grava lotes de votos já validados com uma única inserção JDBC em lote.
+ * Votos já registrados no {@link VoterIndex} ou repetidos dentro do lote são descartados sem acessar o banco;
+ * se o lote ainda assim violar a restrição de voto único, cada voto é gravado individualmente.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteBatchWriter {
+
+    private final VotesRepository votesRepository;
+    private final VoteTallyService voteTallyService;
+    private final VoterIndex voterIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Grava os votos informados.
+     * @param votes votos a gravar
+     * @return para cada voto, na mesma posição, se ele foi gravado (false indica voto duplicado)
+     */
+    public boolean[] write(List<Votes> votes) {
+        if (votes.isEmpty()) {
+            return new boolean[0];
+        }
+
+        boolean[] inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> insertNewVotes(votes));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Conflito de voto duplicado no lote de {} votos. Gravando individualmente", votes.size());
+            inserted = new boolean[votes.size()];
+            for (int i = 0; i < votes.size(); i++) {
+                votes.get(i).setId(null);
+                inserted[i] = votesRepository.insertIfAbsent(votes.get(i));
+            }
+        }
+
+        for (int i = 0; i < votes.size(); i++) {
+            if (inserted[i]) {
+                Votes vote = votes.get(i);
+                voteTallyService.recordVote(vote.getSectionId(), vote.getVote());
+                voterIndex.recordVote(vote.getSectionId(), vote.getUserId());
+            }
+        }
+        return inserted;
+    }
+
+    private boolean[] insertNewVotes(List<Votes> votes) {
+        Map<Long, Set<Long>> batchVotersBySection = new HashMap<>();
+        boolean[] inserted = new boolean[votes.size()];
+        List<Votes> toInsert = new ArrayList<>(votes.size());
+        for (int i = 0; i < votes.size(); i++) {
+            Votes vote = votes.get(i);
+            if (!voterIndex.hasVoted(vote.getSectionId(), vote.getUserId())
+                    && batchVotersBySection.computeIfAbsent(vote.getSectionId(), id -> new HashSet<>()).add(vote.getUserId())) {
+                inserted[i] = true;
+                toInsert.add(vote);
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            votesRepository.insertBatch(toInsert);
+        }
+        log.debug("Lote gravado. Votos criados: {}, duplicados: {}", toInsert.size(), votes.size() - toInsert.size());
+        return inserted;
+    }
+}
@@ -0,0 +1,240 @@
+package com.sicredi.pautachallenge.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.VoteIngestionProperties;
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.dto.VoteReceipt;
+import com.sicredi.pautachallenge.domain.model.VoteReceiptStatus;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
+import com.sicredi.pautachallenge.service.VotesService.RejectionReason;
+
+/**
+ * Recebimento assíncrono de votos.
+ * Os votos são validados na requisição, colocados em uma fila limitada e gravados por uma única thread
+ * em lotes JDBC ({@link VoteBatchWriter}) de até {@code batchSize} votos, aguardando no máximo {@code linger} para completar um lote.
+ * A partir do início do encerramento novos votos são recusados com 503; votos que ainda estiverem na fila quando
+ * o gravador terminar recebem o status FAILED.
+ * Cada voto é contado nos contadores de {@link VotesService}; os logs por voto ficam em DEBUG.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "pauta.votes.ingestion", name = "enabled", havingValue = "true")
+public class VoteIngestionService {
+
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+    static final String SHUTTING_DOWN_MESSAGE = "Recebimento de votos em encerramento. Tente novamente em instantes.";
+
+    private final VoteIngestionProperties properties;
+    private final VotesService votesService;
+    private final VoteBatchWriter voteBatchWriter;
+    private final VoterIndex voterIndex;
+
+    private final BlockingQueue<PendingVote> queue;
+    private final Set<VoteKey> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, ReceiptEntry> receipts = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private Thread writer;
+    private long lastPurge = System.nanoTime();
+
+    public VoteIngestionService(VoteIngestionProperties properties, VotesService votesService,
+            VoteBatchWriter voteBatchWriter, VoterIndex voterIndex) {
+        this.properties = properties;
+        this.votesService = votesService;
+        this.voteBatchWriter = voteBatchWriter;
+        this.voterIndex = voterIndex;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "vote-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Recebimento assíncrono de votos iniciado. Lote: {}, espera: {}, capacidade da fila: {}",
+                properties.batchSize(), properties.linger(), properties.queueCapacity());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopping = true;
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        List<PendingVote> discarded = new ArrayList<>();
+        queue.drainTo(discarded);
+        discarded.forEach(this::fail);
+        log.info("Recebimento assíncrono de votos encerrado. Votos pendentes descartados: {}", discarded.size());
+    }
+
+    public VoteReceipt submit(VoteDTO voteDTO) {
+        log.debug("Recebendo voto assíncrono. Usuário: {}, Seção: {}", voteDTO.userId(), voteDTO.sectionId());
+        String receiptId = UUID.randomUUID().toString();
+        VoteReceipt receipt = new VoteReceipt(receiptId, voteDTO.sectionId(), voteDTO.userId(), VoteReceiptStatus.PENDING);
+        if (stopping) {
+            throw shuttingDown();
+        }
+
+        if (!votesService.checkEligibility(voteDTO)) {
+            log.debug("CPF inválido detectado para usuário: {}", voteDTO.userId());
+            return complete(receipt, VoteReceiptStatus.UNABLE_TO_VOTE);
+        }
+
+        VoteKey key = new VoteKey(voteDTO.sectionId(), voteDTO.userId());
+        if (voterIndex.hasVoted(voteDTO.sectionId(), voteDTO.userId()) || !inFlight.add(key)) {
+            log.debug("Tentativa de voto duplicado. Usuário: {}, Seção: {}", voteDTO.userId(), voteDTO.sectionId());
+            votesService.recordRejected(RejectionReason.DUPLICATE);
+            throw new IllegalArgumentException("Esse usuário já votou nesta seção.");
+        }
+
+        receipts.put(receiptId, new ReceiptEntry(receipt, 0L));
+        PendingVote pending = new PendingVote(receipt, voteDTO.vote());
+        if (!queue.offer(pending)) {
+            inFlight.remove(key);
+            receipts.remove(receiptId);
+            log.debug("Fila de votos cheia ({} votos). Rejeitando voto do usuário: {}", properties.queueCapacity(), voteDTO.userId());
+            votesService.recordRejected(RejectionReason.QUEUE_FULL);
+            throw new ServiceOverloadedException("Sistema de votação sobrecarregado. Tente novamente em instantes.",
+                    properties.linger().plusSeconds(1));
+        }
+        if (stopping && queue.remove(pending)) {
+            // O encerramento começou durante o envio e o gravador pode já ter esvaziado a fila
+            inFlight.remove(key);
+            receipts.remove(receiptId);
+            throw shuttingDown();
+        }
+        return receipt;
+    }
+
+    public Optional<VoteReceipt> getReceipt(String receiptId) {
+        return Optional.ofNullable(receipts.get(receiptId)).map(ReceiptEntry::receipt);
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<PendingVote> batch = new ArrayList<>(properties.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVote first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    fillBatch(batch);
+                    writeBatch(batch);
+                    batch.clear();
+                }
+                purgeReceipts();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Erro inesperado no gravador de votos", e);
+            }
+        }
+    }
+
+    private void fillBatch(List<PendingVote> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.linger().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.batchSize() || remaining <= 0) {
+                return;
+            }
+            PendingVote next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void writeBatch(List<PendingVote> batch) {
+        log.debug("Gravando lote de {} votos", batch.size());
+        try {
+            boolean[] inserted = voteBatchWriter.write(batch.stream().map(PendingVote::toVotes).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i).receipt(), inserted[i] ? VoteReceiptStatus.CREATED : VoteReceiptStatus.DUPLICATE);
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar lote de {} votos", batch.size(), e);
+            batch.forEach(pending -> complete(pending.receipt(), VoteReceiptStatus.FAILED));
+        } finally {
+            batch.forEach(pending -> inFlight.remove(new VoteKey(pending.receipt().sectionId(), pending.receipt().userId())));
+        }
+    }
+
+    private void fail(PendingVote pending) {
+        complete(pending.receipt(), VoteReceiptStatus.FAILED);
+        inFlight.remove(new VoteKey(pending.receipt().sectionId(), pending.receipt().userId()));
+    }
+
+    private ServiceOverloadedException shuttingDown() {
+        log.debug("Recebimento de votos em encerramento. Recusando voto");
+        votesService.recordRejected(RejectionReason.SHUTTING_DOWN);
+        return new ServiceOverloadedException(SHUTTING_DOWN_MESSAGE, properties.linger().plusSeconds(1));
+    }
+
+    private VoteReceipt complete(VoteReceipt receipt, VoteReceiptStatus status) {
+        switch (status) {
+            case CREATED -> votesService.recordProcessed(VoteStatus.ABLE_TO_VOTE);
+            case UNABLE_TO_VOTE -> votesService.recordProcessed(VoteStatus.UNABLE_TO_VOTE);
+            case DUPLICATE -> votesService.recordRejected(RejectionReason.DUPLICATE);
+            case FAILED -> votesService.recordRejected(RejectionReason.FAILED);
+            case PENDING -> { }
+        }
+        VoteReceipt completed = receipt.withStatus(status);
+        receipts.put(receipt.id(), new ReceiptEntry(completed, System.nanoTime()));
+        return completed;
+    }
+
+    private void purgeReceipts() {
+        long now = System.nanoTime();
+        long retention = properties.receiptRetention().toNanos();
+        if (now - lastPurge < Math.min(retention, TimeUnit.SECONDS.toNanos(10))) {
+            return;
+        }
+        lastPurge = now;
+        receipts.values().removeIf(entry -> entry.receipt().status() != VoteReceiptStatus.PENDING
+                && now - entry.completedAt() > retention);
+    }
+
+    record PendingVote(VoteReceipt receipt, boolean vote) {
+        Votes toVotes() {
+            Votes votes = new Votes();
+            votes.setSectionId(receipt.sectionId());
+            votes.setUserId(receipt.userId());
+            votes.setVote(vote);
+            votes.setStatus(VoteStatus.ABLE_TO_VOTE);
+            return votes;
+        }
+    }
+
+    private record VoteKey(Long sectionId, Long userId) {}
+
+    private record ReceiptEntry(VoteReceipt receipt, long completedAt) {}
+}
@@ -0,0 +1,98 @@
+package com.sicredi.pautachallenge.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.VoteLogSummaryProperties;
+
+/**
+ * Resumo periódico dos votos em uma linha de log INFO, no lugar das linhas por voto, que ficam em DEBUG.
+ * Os totais vêm dos contadores {@code pauta.votes.processed} e {@code pauta.votes.rejected}, alimentados pelo
+ * {@link VotesService}, pelo {@link VoteBatchService} e pelo {@link VoteIngestionService};
+ * cada linha traz a diferença desde a linha anterior.
+ */
+@Slf4j
+@Service
+public class VoteLogSummary {
+
+    private final VoteLogSummaryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Double> previous = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public VoteLogSummary(VoteLogSummaryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Resumo periódico de votos desabilitado");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vote-log-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.interval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::report, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void report() {
+        try {
+            Map<String, Long> processed = delta("pauta.votes.processed", "status");
+            Map<String, Long> rejected = delta("pauta.votes.rejected", "reason");
+            long total = processed.values().stream().mapToLong(Long::longValue).sum()
+                    + rejected.values().stream().mapToLong(Long::longValue).sum();
+            if (total == 0) {
+                return;
+            }
+            log.info("Votos nos últimos {}: registrados {}, sem elegibilidade {}, recusados {} {}",
+                    properties.interval(),
+                    processed.getOrDefault("ABLE_TO_VOTE", 0L),
+                    processed.getOrDefault("UNABLE_TO_VOTE", 0L),
+                    rejected.values().stream().mapToLong(Long::longValue).sum(),
+                    rejected);
+        } catch (RuntimeException e) {
+            log.error("Erro ao gerar resumo de votos", e);
+        }
+    }
+
+    /**
+     * Diferença de cada contador desde a chamada anterior, por valor da tag; valores sem variação são omitidos.
+     */
+    private Map<String, Long> delta(String name, String tag) {
+        Map<String, Long> deltas = new TreeMap<>();
+        for (Counter counter : meterRegistry.find(name).counters()) {
+            String key = name + ":" + counter.getId().getTag(tag);
+            double count = counter.count();
+            long delta = Math.round(count - previous.getOrDefault(key, 0.0));
+            previous.put(key, count);
+            if (delta > 0) {
+                deltas.put(counter.getId().getTag(tag), delta);
+            }
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,185 @@
+package com.sicredi.pautachallenge.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.config.VoteTallyProperties;
+import com.sicredi.pautachallenge.domain.dto.TallyConsistencyReport;
+import com.sicredi.pautachallenge.domain.interfaces.SectionTallyTotals;
+import com.sicredi.pautachallenge.domain.interfaces.SectionVoteCount;
+import com.sicredi.pautachallenge.domain.model.SectionTallyCounter;
+import com.sicredi.pautachallenge.repository.SectionTallyRepository;
+import com.sicredi.pautachallenge.repository.VotesRepository;
+
+/**
+ * Contagem de votos por seção mantida em memória.
+ * Cada seção possui contadores LongAdder para votos a favor e contra, atualizados após cada voto salvo,
+ * de forma que a listagem de seções não precise recontar a tabela de votos.
+ * A contagem é carregada da tabela section_tally antes de a aplicação começar a receber requisições;
+ * {@link #rebuildFromVotes()} regenera section_tally a partir dos votos quando ela estiver vazia na inicialização
+ * ou quando {@code pauta.votes.tally.rebuild=true}; nesse momento o servidor web ainda não recebe requisições,
+ * então nenhum voto é gravado durante a regeneração.
+ * O frescor da contagem é exposto nos gauges {@code pauta.votes.tally.*}: tempo desde a carga, tempo desde o último
+ * voto contado e seções divergentes na última verificação de consistência.
+ */
+@Slf4j
+@Service
+public class VoteTallyService implements SmartInitializingSingleton {
+
+    private final VotesRepository votesRepository;
+    private final SectionTallyRepository sectionTallyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteTallyProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Map<Long, SectionTally> tallies = new ConcurrentHashMap<>();
+    private volatile long loadedAt = System.nanoTime();
+    private volatile long lastVoteAt = System.nanoTime();
+    private volatile int mismatches;
+
+    public VoteTallyService(VotesRepository votesRepository, SectionTallyRepository sectionTallyRepository,
+            TransactionTemplate transactionTemplate, VoteTallyProperties properties, MeterRegistry meterRegistry) {
+        this.votesRepository = votesRepository;
+        this.sectionTallyRepository = sectionTallyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Gauge.builder("pauta.votes.tally.sections", this, service -> service.tallies.size())
+            .description("Seções com contagem de votos em memória")
+            .register(meterRegistry);
+        Gauge.builder("pauta.votes.tally.loaded.age", this, service -> secondsSince(service.loadedAt))
+            .baseUnit("seconds")
+            .description("Tempo desde a última carga da contagem a partir de section_tally")
+            .register(meterRegistry);
+        Gauge.builder("pauta.votes.tally.last.vote.age", this, service -> secondsSince(service.lastVoteAt))
+            .baseUnit("seconds")
+            .description("Tempo desde o último voto somado à contagem em memória")
+            .register(meterRegistry);
+        Gauge.builder("pauta.votes.tally.mismatches", this, service -> service.mismatches)
+            .description("Seções com contagem divergente do banco na última verificação de consistência")
+            .register(meterRegistry);
+        if (properties.rebuild()) {
+            log.warn("Regeneração de section_tally solicitada (pauta.votes.tally.rebuild=true). Desligue após a inicialização");
+            TallyConsistencyReport report = rebuildFromVotes();
+            log.warn("Regeneração de section_tally concluída: {} seções, consistente={}",
+                    report.checkedSections(), report.consistent());
+        } else if (sectionTallyRepository.count() == 0 && votesRepository.count() > 0) {
+            log.warn("Tabela section_tally vazia com votos existentes. Gerando contagem a partir dos votos");
+            rebuildFromVotes();
+        } else {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        log.info("Carregando contagem de votos da tabela section_tally");
+        Map<Long, SectionTally> rebuilt = new ConcurrentHashMap<>();
+        for (SectionTallyTotals totals : sectionTallyRepository.sumBySection()) {
+            SectionTally tally = rebuilt.computeIfAbsent(totals.getSectionId(), id -> new SectionTally());
+            tally.add(true, totals.getVotesTrue());
+            tally.add(false, totals.getVotesFalse());
+        }
+        tallies = rebuilt;
+        loadedAt = System.nanoTime();
+        log.info("Contagem de votos carregada para {} seções", rebuilt.size());
+    }
+
+    /**
+     * Regenera a tabela section_tally a partir da tabela de votos e recarrega a contagem em memória.
+     * Votos gravados durante a regeneração podem não ser contados; por isso só é chamada na inicialização,
+     * antes de a aplicação receber requisições.
+     */
+    public TallyConsistencyReport rebuildFromVotes() {
+        log.info("Regenerando tabela section_tally a partir dos votos");
+        int rows = transactionTemplate.execute(status -> {
+            sectionTallyRepository.deleteAllInBatch();
+            return sectionTallyRepository.insertFromVotes(SectionTallyCounter.STRIPES);
+        });
+        log.info("Tabela section_tally regenerada com {} linhas", rows);
+        rebuild();
+        return checkConsistency();
+    }
+
+    public void recordVote(Long sectionId, boolean vote) {
+        tallies.computeIfAbsent(sectionId, id -> new SectionTally()).add(vote, 1);
+        lastVoteAt = System.nanoTime();
+    }
+
+    public SectionTally getTally(Long sectionId) {
+        SectionTally tally = tallies.get(sectionId);
+        return tally != null ? tally : SectionTally.EMPTY;
+    }
+
+    public TallyConsistencyReport checkConsistency() {
+        log.debug("Verificando consistência da contagem de votos com o banco de dados");
+        Map<Long, long[]> database = new HashMap<>();
+        for (SectionVoteCount count : votesRepository.countVotesBySectionAndVote()) {
+            long[] totals = database.computeIfAbsent(count.getSectionId(), id -> new long[2]);
+            totals[Boolean.TRUE.equals(count.getVote()) ? 0 : 1] += count.getTotal();
+        }
+
+        Set<Long> sectionIds = new HashSet<>(database.keySet());
+        sectionIds.addAll(tallies.keySet());
+
+        List<TallyConsistencyReport.Mismatch> mismatches = new ArrayList<>();
+        for (Long sectionId : sectionIds) {
+            SectionTally tally = getTally(sectionId);
+            long[] totals = database.getOrDefault(sectionId, new long[2]);
+            long votesTrue = tally.getVotesTrue();
+            long votesFalse = tally.getVotesFalse();
+            if (votesTrue != totals[0] || votesFalse != totals[1]) {
+                log.warn("Contagem divergente na seção {}: memória {}/{}, banco {}/{}",
+                        sectionId, votesTrue, votesFalse, totals[0], totals[1]);
+                mismatches.add(new TallyConsistencyReport.Mismatch(sectionId, votesTrue, votesFalse, totals[0], totals[1]));
+            }
+        }
+
+        this.mismatches = mismatches.size();
+        return new TallyConsistencyReport(sectionIds.size(), mismatches.isEmpty(), mismatches);
+    }
+
+    private static double secondsSince(long nanos) {
+        return (System.nanoTime() - nanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    public static final class SectionTally {
+        static final SectionTally EMPTY = new SectionTally();
+
+        private final LongAdder votesTrue = new LongAdder();
+        private final LongAdder votesFalse = new LongAdder();
+
+        void add(boolean vote, long amount) {
+            (vote ? votesTrue : votesFalse).add(amount);
+        }
+
+        public long getVotesTrue() {
+            return votesTrue.sum();
+        }
+
+        public long getVotesFalse() {
+            return votesFalse.sum();
+        }
+
+        public long getTotalVotes() {
+            return getVotesTrue() + getVotesFalse();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.sicredi.pautachallenge.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.config.EligibilityProperties;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
+import com.sicredi.pautachallenge.infra.eligibility.EligibilityClient;
+import com.sicredi.pautachallenge.infra.eligibility.EligibilityClientException;
+import com.sicredi.pautachallenge.repository.UserRepository;
+
+/**
+ * Elegibilidade de voto por usuário.
+ * A decisão do {@link EligibilityClient} é guardada por {@code cacheTtl}, de forma que votos seguintes do mesmo
+ * usuário não consultem o serviço externo. As chamadas passam por um {@link CircuitBreaker}: com o serviço
+ * indisponível o voto é recusado com 503 em vez de ser marcado como inelegível, e falhas não são guardadas.
+ * Erros 4xx ({@link EligibilityClientException}) também recusam o voto com 503, mas não contam como falha no circuito,
+ * já que o serviço respondeu.
+ * {@link #checkAsync(Long)} responde do cache na própria thread e, quando precisa consultar o serviço, usa um pool
+ * de {@code threads} threads; consultas simultâneas do mesmo usuário compartilham a mesma chamada.
+ */
+@Slf4j
+@Service
+public class VoterEligibilityService {
+
+    static final String CACHE_NAME = "voter-eligibility";
+    static final String UNAVAILABLE_MESSAGE = "Serviço de verificação de CPF indisponível. Tente novamente em instantes.";
+
+    private final EligibilityClient eligibilityClient;
+    private final UserRepository userRepository;
+    private final EligibilityProperties properties;
+    private final LongSupplier nanoClock;
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor checkPool;
+
+    private final Map<Long, CachedDecision> decisions = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<Boolean>> pending = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public VoterEligibilityService(EligibilityClient eligibilityClient, UserRepository userRepository,
+            EligibilityProperties properties, MeterRegistry meterRegistry) {
+        this(eligibilityClient, userRepository, properties, meterRegistry, System::nanoTime);
+    }
+
+    VoterEligibilityService(EligibilityClient eligibilityClient, UserRepository userRepository,
+            EligibilityProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.eligibilityClient = eligibilityClient;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openDuration(), nanoClock);
+        this.checkPool = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()), namedThreads(), new ThreadPoolExecutor.AbortPolicy());
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "hit")
+            .description("Consultas atendidas pelo cache")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "miss")
+            .description("Consultas que precisaram acessar o serviço de elegibilidade")
+            .register(meterRegistry);
+        Gauge.builder("cache.size", decisions, Map::size)
+            .tag("cache", CACHE_NAME)
+            .description("Decisões de elegibilidade em cache")
+            .register(meterRegistry);
+        Gauge.builder("pauta.eligibility.circuit.open", circuitBreaker,
+                breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+            .description("Indica se o circuito do serviço de elegibilidade está aberto")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        checkPool.shutdown();
+    }
+
+    /**
+     * @return se o usuário pode votar; usuários inexistentes não podem
+     * @throws ServiceOverloadedException quando o serviço de elegibilidade falha ou o circuito está aberto
+     */
+    public boolean isEligible(Long userId) {
+        long now = nanoClock.getAsLong();
+        CachedDecision cached = decisions.get(userId);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            hits.increment();
+            return cached.status() == VoteStatus.ABLE_TO_VOTE;
+        }
+
+        misses.increment();
+        VoteStatus status = userRepository.findCpfById(userId)
+            .map(this::checkRemote)
+            .orElseGet(() -> {
+                log.warn("Verificação de elegibilidade para usuário inexistente: {}", userId);
+                return VoteStatus.UNABLE_TO_VOTE;
+            });
+        put(userId, status, now);
+        return status == VoteStatus.ABLE_TO_VOTE;
+    }
+
+    /**
+     * Mesma verificação de {@link #isEligible(Long)} sem ocupar a thread chamadora quando a decisão não está em cache.
+     * O futuro completa com {@link ServiceOverloadedException} nas mesmas situações.
+     */
+    public CompletableFuture<Boolean> checkAsync(Long userId) {
+        CachedDecision cached = decisions.get(userId);
+        if (cached != null && cached.expiresAt() - nanoClock.getAsLong() > 0) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached.status() == VoteStatus.ABLE_TO_VOTE);
+        }
+
+        CompletableFuture<Boolean> check = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = pending.putIfAbsent(userId, check);
+        if (running != null) {
+            return running;
+        }
+        try {
+            checkPool.execute(() -> {
+                try {
+                    check.complete(isEligible(userId));
+                } catch (RuntimeException e) {
+                    check.completeExceptionally(e);
+                } finally {
+                    pending.remove(userId, check);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(userId, check);
+            log.warn("Fila de verificação de elegibilidade cheia ({} consultas). Recusando voto do usuário: {}",
+                    properties.queueCapacity(), userId);
+            throw new ServiceOverloadedException(UNAVAILABLE_MESSAGE, Duration.ofSeconds(1));
+        }
+        return check;
+    }
+
+    public void invalidate(Long userId) {
+        decisions.remove(userId);
+    }
+
+    public int size() {
+        return decisions.size();
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private VoteStatus checkRemote(String cpf) {
+        if (!circuitBreaker.tryAcquire()) {
+            Duration retryAfter = circuitBreaker.remainingOpen();
+            log.warn("Circuito do serviço de elegibilidade aberto. Recusando verificação por {}", retryAfter);
+            throw new ServiceOverloadedException(UNAVAILABLE_MESSAGE, retryAfter.isZero() ? Duration.ofSeconds(1) : retryAfter);
+        }
+        try {
+            VoteStatus status = eligibilityClient.check(cpf);
+            circuitBreaker.onSuccess();
+            return status;
+        } catch (EligibilityClientException e) {
+            circuitBreaker.onSuccess();
+            log.error("Serviço de elegibilidade recusou a consulta com status {}", e.getStatusCode(), e);
+            throw new ServiceOverloadedException(UNAVAILABLE_MESSAGE, Duration.ofSeconds(1));
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            log.error("Falha ao consultar o serviço de elegibilidade. Circuito: {}", circuitBreaker.getState(), e);
+            Duration retryAfter = circuitBreaker.remainingOpen();
+            throw new ServiceOverloadedException(UNAVAILABLE_MESSAGE, retryAfter.isZero() ? Duration.ofSeconds(1) : retryAfter);
+        }
+    }
+
+    private void put(Long userId, VoteStatus status, long now) {
+        if (decisions.size() >= properties.cacheMaxSize() && !decisions.containsKey(userId)) {
+            decisions.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (decisions.size() >= properties.cacheMaxSize()) {
+                return;
+            }
+        }
+        decisions.put(userId, new CachedDecision(status, now + properties.cacheTtl().toNanos()));
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "voter-eligibility-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record CachedDecision(VoteStatus status, long expiresAt) {}
+}
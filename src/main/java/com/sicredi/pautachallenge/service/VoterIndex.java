@@ -0,0 +1,125 @@
+package com.sicredi.pautachallenge.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+
+import com.sicredi.pautachallenge.repository.VotesRepository;
+
+/**
+ * Índice em memória dos usuários que já votaram em cada seção.
+ * Cada seção guarda os ids dos votantes em um bitmap Roaring comprimido, sem objetos Long por usuário,
+ * o que mantém o consumo em poucos bytes por votante mesmo com milhões de votos.
+ * Assim como a contagem de votos, o índice é carregado do banco antes de a aplicação receber requisições
+ * e atualizado após cada voto gravado, permitindo responder "já votou?" e rejeitar votos duplicados sem consultar o banco.
+ * A carga acrescenta os votantes ao mapa em uso, sem substituí-lo, para não perder votos registrados durante a leitura.
+ */
+@Slf4j
+@Service
+public class VoterIndex implements SmartInitializingSingleton {
+
+    private final VotesRepository votesRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, SectionVoters> voters = new ConcurrentHashMap<>();
+
+    public VoterIndex(VotesRepository votesRepository, MeterRegistry meterRegistry) {
+        this.votesRepository = votesRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Gauge.builder("pauta.voters.index.size", this, VoterIndex::getVoterCount)
+            .description("Quantidade de votos registrados no índice de votantes")
+            .register(meterRegistry);
+        Gauge.builder("pauta.voters.index.memory", this, VoterIndex::getMemoryBytes)
+            .baseUnit("bytes")
+            .description("Memória ocupada pelos bitmaps do índice de votantes")
+            .register(meterRegistry);
+        load();
+    }
+
+    private void load() {
+        log.info("Carregando índice de votantes a partir do banco de dados");
+        votesRepository.forEachVoter(this::recordVote);
+        voters.values().forEach(SectionVoters::optimize);
+        log.info("Índice de votantes carregado para {} seções ({} votos, {} bytes)",
+                voters.size(), getVoterCount(), getMemoryBytes());
+    }
+
+    public void recordVote(Long sectionId, Long userId) {
+        voters.computeIfAbsent(sectionId, id -> new SectionVoters()).add(userId);
+    }
+
+    public boolean hasVoted(Long sectionId, Long userId) {
+        SectionVoters sectionVoters = voters.get(sectionId);
+        return sectionVoters != null && sectionVoters.contains(userId);
+    }
+
+    public long getVoterCount() {
+        return voters.values().stream().mapToLong(SectionVoters::cardinality).sum();
+    }
+
+    public long getMemoryBytes() {
+        return voters.values().stream().mapToLong(SectionVoters::sizeInBytes).sum();
+    }
+
+    private static final class SectionVoters {
+        private final Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void add(long userId) {
+            lock.writeLock().lock();
+            try {
+                bitmap.addLong(userId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void optimize() {
+            lock.writeLock().lock();
+            try {
+                bitmap.runOptimize();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean contains(long userId) {
+            lock.readLock().lock();
+            try {
+                return bitmap.contains(userId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long cardinality() {
+            lock.readLock().lock();
+            try {
+                return bitmap.getLongCardinality();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long sizeInBytes() {
+            lock.readLock().lock();
+            try {
+                return bitmap.getLongSizeInBytes();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
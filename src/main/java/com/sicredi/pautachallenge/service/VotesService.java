@@ -1,36 +1,101 @@
 package com.sicredi.pautachallenge.service;
 
-import java.util.Optional;
-import java.util.Random;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import com.sicredi.pautachallenge.config.VoteCheckProperties;
 import com.sicredi.pautachallenge.domain.dto.VoteDTO;
-import com.sicredi.pautachallenge.domain.model.Section;
 import com.sicredi.pautachallenge.domain.model.VoteStatus;
 import com.sicredi.pautachallenge.domain.model.Votes;
-import com.sicredi.pautachallenge.repository.SectionRepository;
+import com.sicredi.pautachallenge.exception.SectionExpiredException;
+import com.sicredi.pautachallenge.exception.SectionNotFoundException;
+import com.sicredi.pautachallenge.exception.SectionNotOpenException;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
 import com.sicredi.pautachallenge.repository.VotesRepository;
+import com.sicredi.pautachallenge.service.SectionLifecycleRegistry.SectionLifecycle;
 
-import java.time.LocalDateTime;
-
+/**
+ * Registro de votos.
+ * As verificações de um voto rodam em paralelo: a elegibilidade do CPF é iniciada primeiro, fora da thread da
+ * requisição, enquanto a seção e o voto duplicado são verificados em memória. A primeira recusa encerra a
+ * verificação sem aguardar as demais, e o conjunto tem o prazo {@code pauta.votes.check.timeout}.
+ * Cada etapa é medida no timer {@code pauta.votes.stage}; votos processados são contados por situação em
+ * {@code pauta.votes.processed} e recusas por motivo em {@code pauta.votes.rejected}.
+ * {@link VoteBatchService} e {@link VoteIngestionService} contam seus votos nos mesmos contadores por
+ * {@link #recordProcessed(VoteStatus)} e {@link #recordRejected(RejectionReason)}.
+ * Os logs por voto ficam em DEBUG; os totais são registrados periodicamente por {@link VoteLogSummary}.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class VotesService {
+
+    static final String CHECK_TIMEOUT_MESSAGE = "Verificação do voto excedeu o tempo limite. Tente novamente em instantes.";
+
+    enum Stage { SECTION, ELIGIBILITY, DUPLICATE, INSERT }
+
+    enum RejectionReason {
+        DUPLICATE, EXPIRED, SECTION_NOT_FOUND, SECTION_NOT_OPEN, TIMEOUT, ELIGIBILITY_UNAVAILABLE, INVALID, QUEUE_FULL, SHUTTING_DOWN, FAILED
+    }
+
     private final VotesRepository repository;
-    private final SectionRepository sectionRepository;
+    private final SectionLifecycleRegistry sectionLifecycleRegistry;
+    private final VoteTallyService voteTallyService;
+    private final VoterIndex voterIndex;
+    private final VoterEligibilityService voterEligibilityService;
+    private final VoteCheckProperties properties;
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<VoteStatus, Counter> processedCounters = new EnumMap<>(VoteStatus.class);
+    private final Map<RejectionReason, Counter> rejectionCounters = new EnumMap<>(RejectionReason.class);
+
+    public VotesService(VotesRepository repository, SectionLifecycleRegistry sectionLifecycleRegistry,
+            VoteTallyService voteTallyService, VoterIndex voterIndex, VoterEligibilityService voterEligibilityService,
+            VoteCheckProperties properties, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.sectionLifecycleRegistry = sectionLifecycleRegistry;
+        this.voteTallyService = voteTallyService;
+        this.voterIndex = voterIndex;
+        this.voterEligibilityService = voterEligibilityService;
+        this.properties = properties;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("pauta.votes.stage")
+                .tag("stage", tagValue(stage))
+                .description("Tempo de cada etapa do registro de um voto")
+                .register(meterRegistry));
+        }
+        for (VoteStatus status : VoteStatus.values()) {
+            processedCounters.put(status, Counter.builder("pauta.votes.processed")
+                .tag("status", status.name())
+                .description("Votos processados por situação de elegibilidade")
+                .register(meterRegistry));
+        }
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejectionCounters.put(reason, Counter.builder("pauta.votes.rejected")
+                .tag("reason", tagValue(reason))
+                .description("Votos recusados por motivo")
+                .register(meterRegistry));
+        }
+    }
 
     public Votes createVote(VoteDTO voteDTO) {
-        log.info("Processando criação de voto. Usuário: {}, Seção: {}, Voto: {}", 
+        log.debug("Processando criação de voto. Usuário: {}, Seção: {}, Voto: {}", 
                 voteDTO.userId(), voteDTO.sectionId(), voteDTO.vote());
         
-        // Validate section exists and is not expired
-        validateSection(voteDTO.sectionId());
-        
-        if (!isValidCPF(voteDTO.userId())) {
+        if (!runChecks(voteDTO, true)) {
+            processedCounters.get(VoteStatus.UNABLE_TO_VOTE).increment();
             return createInvalidVote(voteDTO);
         }
 
@@ -42,31 +107,129 @@ public class VotesService {
         return processVoteResult(createdVote, voteDTO);
     }
 
-    private void validateSection(Long sectionId) {
-        Section section = sectionRepository.findById(sectionId).orElse(null);
-        if (section == null) {
-            log.warn("Tentativa de voto em seção inexistente: {}", sectionId);
-            throw new IllegalArgumentException("Seção não encontrada");
+    public boolean checkEligibility(VoteDTO voteDTO) {
+        return runChecks(voteDTO, false);
+    }
+
+    /**
+     * Inicia a verificação de elegibilidade e, enquanto ela executa, valida a seção e, se {@code checkDuplicate},
+     * o índice de eleitores. Uma recusa dessas verificações é lançada sem aguardar a elegibilidade.
+     * Se o prazo vencer, a consulta de elegibilidade continua em segundo plano e a decisão fica em cache para a nova tentativa.
+     */
+    private boolean runChecks(VoteDTO voteDTO, boolean checkDuplicate) {
+        long start = System.nanoTime();
+        long deadline = start + properties.timeout().toNanos();
+        CompletableFuture<Boolean> eligibility = voterEligibilityService.checkAsync(voteDTO.userId());
+        eligibility.whenComplete((eligible, error) -> record(Stage.ELIGIBILITY, start));
+
+        long sectionStart = System.nanoTime();
+        try {
+            validateSection(voteDTO.sectionId());
+        } catch (SectionNotFoundException e) {
+            throw reject(RejectionReason.SECTION_NOT_FOUND, e);
+        } catch (SectionExpiredException e) {
+            throw reject(RejectionReason.EXPIRED, e);
+        } catch (SectionNotOpenException e) {
+            throw reject(RejectionReason.SECTION_NOT_OPEN, e);
+        } finally {
+            record(Stage.SECTION, sectionStart);
         }
-        
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime expirationTime = section.getStart_at().plusMinutes(section.getExpiration());
-        
-        if (now.isAfter(expirationTime)) {
-            log.warn("Tentativa de voto em seção expirada: {} (expirou em: {})", sectionId, expirationTime);
-            throw new IllegalArgumentException("Seção expirada");
+
+        if (checkDuplicate) {
+            long duplicateStart = System.nanoTime();
+            boolean hasVoted = voterIndex.hasVoted(voteDTO.sectionId(), voteDTO.userId());
+            record(Stage.DUPLICATE, duplicateStart);
+            if (hasVoted) {
+                log.debug("Voto já existe para usuário: {} na seção: {}", voteDTO.userId(), voteDTO.sectionId());
+                throw reject(RejectionReason.DUPLICATE, new IllegalArgumentException("Esse usuário já votou nesta seção."));
+            }
+        }
+
+        return awaitEligibility(eligibility, voteDTO.userId(), deadline);
+    }
+
+    private boolean awaitEligibility(CompletableFuture<Boolean> eligibility, Long userId, long deadline) {
+        try {
+            return eligibility.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Verificação de elegibilidade do usuário {} excedeu o prazo de {}", userId, properties.timeout());
+            throw reject(RejectionReason.TIMEOUT, new ServiceOverloadedException(CHECK_TIMEOUT_MESSAGE, Duration.ofSeconds(1)));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ServiceOverloadedException cause) {
+                throw reject(RejectionReason.ELIGIBILITY_UNAVAILABLE, cause);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Falha na verificação de elegibilidade", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(CHECK_TIMEOUT_MESSAGE, Duration.ofSeconds(1));
+        }
+    }
+
+    public void validateSection(Long sectionId) {
+        SectionLifecycle lifecycle = sectionLifecycleRegistry.find(sectionId).orElse(null);
+        if (lifecycle == null) {
+            log.debug("Tentativa de voto em seção inexistente: {}", sectionId);
+            throw new SectionNotFoundException();
         }
         
-        log.debug("Seção validada com sucesso: {} (expira em: {})", sectionId, expirationTime);
+        switch (lifecycle.getStatus()) {
+            case SCHEDULED -> {
+                log.debug("Tentativa de voto em seção ainda não aberta: {} (abre em: {})", sectionId, lifecycle.getStart());
+                throw new SectionNotOpenException();
+            }
+            case CLOSED -> {
+                log.debug("Tentativa de voto em seção expirada: {} (expirou em: {})", sectionId, lifecycle.getEnd());
+                throw new SectionExpiredException();
+            }
+            case OPEN -> log.debug("Seção validada com sucesso: {} (expira em: {})", sectionId, lifecycle.getEnd());
+        }
+    }
+
+    /**
+     * Verifica a elegibilidade de vários usuários: todas as consultas são iniciadas antes de aguardar a primeira
+     * e compartilham o mesmo prazo {@code pauta.votes.check.timeout}.
+     *
+     * @return se cada usuário pode votar
+     * @throws ServiceOverloadedException quando o prazo vence ou o serviço de elegibilidade está indisponível
+     */
+    public Map<Long, Boolean> checkEligibility(Set<Long> userIds) {
+        long deadline = System.nanoTime() + properties.timeout().toNanos();
+        Map<Long, CompletableFuture<Boolean>> checks = new HashMap<>();
+        for (Long userId : userIds) {
+            checks.put(userId, voterEligibilityService.checkAsync(userId));
+        }
+
+        Map<Long, Boolean> eligible = new HashMap<>();
+        checks.forEach((userId, check) -> eligible.put(userId, awaitEligibility(check, userId, deadline)));
+        return eligible;
+    }
+
+    void recordProcessed(VoteStatus status) {
+        processedCounters.get(status).increment();
+    }
+
+    void recordRejected(RejectionReason reason) {
+        rejectionCounters.get(reason).increment();
+    }
+
+    private RuntimeException reject(RejectionReason reason, RuntimeException exception) {
+        recordRejected(reason);
+        return exception;
     }
 
-    private boolean isValidCPF(Long userId) {
-        Random random = new Random();
-        return random.nextDouble() > 0.3;
+    private void record(Stage stage, long start) {
+        stageTimers.get(stage).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase();
     }
 
     private Votes createInvalidVote(VoteDTO voteDTO) {
-        log.warn("CPF inválido detectado para usuário: {}", voteDTO.userId());
+        log.debug("CPF inválido detectado para usuário: {}", voteDTO.userId());
         Votes invalidVote = new Votes();
         invalidVote.setUserId(voteDTO.userId());
         invalidVote.setSectionId(voteDTO.sectionId());
@@ -85,40 +248,32 @@ public class VotesService {
     }
 
     private Votes processVoteCreation(Votes votes) {
-        log.debug("Verificando se já existe voto para usuário: {} na seção: {}", votes.getUserId(), votes.getSectionId());
-        
-        if (isVoteAlreadyExists(votes)) {
-            return null;
-        }
-
-        return saveVote(votes);
-    }
+        log.debug("Salvando novo voto para usuário: {} na seção: {}", votes.getUserId(), votes.getSectionId());
 
-    private boolean isVoteAlreadyExists(Votes votes) {
-        Optional<Votes> existingVote = repository.findByUserIdAndSectionId(votes.getUserId(), votes.getSectionId());
-        if (existingVote.isPresent()) {
-            log.warn("Voto já existe para usuário: {} na seção: {}", votes.getUserId(), votes.getSectionId());
-            return true;
+        long insertStart = System.nanoTime();
+        boolean inserted = repository.insertIfAbsent(votes);
+        record(Stage.INSERT, insertStart);
+        if (!inserted) {
+            log.debug("Voto já existe para usuário: {} na seção: {}", votes.getUserId(), votes.getSectionId());
+            return null;
         }
-        return false;
-    }
 
-    private Votes saveVote(Votes votes) {
-        log.debug("Salvando novo voto para usuário: {} na seção: {}", votes.getUserId(), votes.getSectionId());
-        Votes savedVote = repository.save(votes);
+        voteTallyService.recordVote(votes.getSectionId(), votes.getVote());
+        voterIndex.recordVote(votes.getSectionId(), votes.getUserId());
         log.debug("Voto salvo com sucesso. ID: {}, Usuário: {}, Seção: {}", 
-                savedVote.getId(), savedVote.getUserId(), savedVote.getSectionId());
-        return savedVote;
+                votes.getId(), votes.getUserId(), votes.getSectionId());
+        return votes;
     }
 
     private Votes processVoteResult(Votes createdVote, VoteDTO voteDTO) {
         if (createdVote != null) {
-            log.info("Voto criado com sucesso. ID: {}, Usuário: {}, Seção: {}", 
+            log.debug("Voto criado com sucesso. ID: {}, Usuário: {}, Seção: {}", 
                     createdVote.getId(), createdVote.getUserId(), createdVote.getSectionId());
+            processedCounters.get(VoteStatus.ABLE_TO_VOTE).increment();
             return createdVote;
         } else {
-            log.warn("Tentativa de voto duplicado. Usuário: {}, Seção: {}", voteDTO.userId(), voteDTO.sectionId());
-            throw new IllegalArgumentException("Esse usuário já votou nesta seção.");
+            log.debug("Tentativa de voto duplicado. Usuário: {}, Seção: {}", voteDTO.userId(), voteDTO.sectionId());
+            throw reject(RejectionReason.DUPLICATE, new IllegalArgumentException("Esse usuário já votou nesta seção."));
         }
     }
 }
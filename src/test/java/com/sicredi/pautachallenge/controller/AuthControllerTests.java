@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -11,8 +13,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import com.sicredi.pautachallenge.domain.interfaces.UserLoginRequest;
+import com.sicredi.pautachallenge.domain.dto.AuthResponseDTO;
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
 import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
 import com.sicredi.pautachallenge.exception.AuthenticationException;
+import com.sicredi.pautachallenge.service.SessionTokenService;
 import com.sicredi.pautachallenge.service.UserService;
 
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +29,9 @@ class AuthControllerTests {
     @Mock
     private UserService userService;
 
+    @Mock
+    private SessionTokenService sessionTokenService;
+
     @InjectMocks
     private AuthController authController;
 
@@ -36,13 +44,36 @@ class AuthControllerTests {
         UserLoginRequest request = new UserLoginRequest("test@example.com", "password");
         UserResponseDTO mockUser = new UserResponseDTO(1L, "John Doe", "123456789", "test@example.com");
 
-        when(userService.login(any(UserLoginRequest.class))).thenReturn(mockUser);
+        AuthResponseDTO issued = new AuthResponseDTO(1L, "John Doe", "123456789", "test@example.com", "token", "Bearer", 900);
+
+        when(userService.login(any(UserLoginRequest.class))).thenReturn(CompletableFuture.completedFuture(mockUser));
+        when(sessionTokenService.issue(mockUser)).thenReturn(issued);
 
-        UserResponseDTO result = authController.login(request);
+        AuthResponseDTO result = authController.login(request).join();
 
         assertNotNull(result);
         assertEquals(mockUser.id(), result.id());
         assertEquals(mockUser.email(), result.email());
+        assertEquals("token", result.token());
+    }
+
+    @Test
+    public void testRefresh_IssuesNewTokenForAuthenticatedUser() {
+        UserResponseDTO mockUser = new UserResponseDTO(1L, "John Doe", "123456789", "test@example.com");
+        AuthResponseDTO issued = new AuthResponseDTO(1L, "John Doe", "123456789", "test@example.com", "novo-token", "Bearer", 900);
+
+        when(userService.findUserById(1L)).thenReturn(mockUser);
+        when(sessionTokenService.issue(mockUser)).thenReturn(issued);
+
+        AuthResponseDTO result = authController.refresh(new AuthenticatedUser(1L, "test@example.com"));
+
+        assertEquals("novo-token", result.token());
+    }
+
+    @Test
+    public void testRefresh_WithoutToken() {
+        assertThrows(AuthenticationException.class, () -> authController.refresh(null));
+        verifyNoInteractions(userService, sessionTokenService);
     }
 
     @Test
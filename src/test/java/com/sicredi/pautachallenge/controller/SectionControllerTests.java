@@ -4,9 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,11 +18,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
 import com.sicredi.pautachallenge.domain.dto.SectionDTO;
+import com.sicredi.pautachallenge.domain.dto.SectionPage;
+import com.sicredi.pautachallenge.domain.dto.SectionQuery;
+import com.sicredi.pautachallenge.domain.dto.SectionVotesDTO;
 import com.sicredi.pautachallenge.domain.interfaces.SectionWithVotesCount;
 import com.sicredi.pautachallenge.domain.model.Section;
+import com.sicredi.pautachallenge.domain.model.SectionState;
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
 import com.sicredi.pautachallenge.service.SectionService;
+import com.sicredi.pautachallenge.service.TallyBroadcaster;
 
 @ExtendWith(MockitoExtension.class)
 class SectionControllerTests {
@@ -27,6 +43,9 @@ class SectionControllerTests {
     @Mock
     private SectionService sectionService;
 
+    @Mock
+    private TallyBroadcaster tallyBroadcaster;
+
     @InjectMocks
     private SectionController sectionController;
 
@@ -45,8 +64,9 @@ class SectionControllerTests {
         private final Long votesFalse;
         private final Boolean hasVoted;
         private final Boolean isExpired;
+        private final SectionStatus status;
 
-        public SectionWithVotesCountImpl(Long id, String name, String description, Integer expiration, LocalDateTime start_at, Long totalVotes, Long votesTrue, Long votesFalse, Boolean hasVoted, Boolean isExpired) {
+        public SectionWithVotesCountImpl(Long id, String name, String description, Integer expiration, LocalDateTime start_at, Long totalVotes, Long votesTrue, Long votesFalse, Boolean hasVoted, Boolean isExpired, SectionStatus status) {
             this.id = id;
             this.name = name;
             this.description = description;
@@ -57,6 +77,7 @@ class SectionControllerTests {
             this.votesFalse = votesFalse;
             this.hasVoted = hasVoted;
             this.isExpired = isExpired;
+            this.status = status;
         }
         public Long getId() { return id; }
         public String getName() { return name; }
@@ -68,18 +89,73 @@ class SectionControllerTests {
         public Long getVotesFalse() { return votesFalse; }
         public Boolean getHasVoted() { return hasVoted; }
         public Boolean getIsExpired() { return isExpired; }
+        public SectionStatus getStatus() { return status; }
     }
 
+    private static final AuthenticatedUser USER = new AuthenticatedUser(1L, "joao@example.com");
+
     @Test
     public void testGetAllSections() {
         Long userId = 1L;
-        SectionWithVotesCount section = new SectionWithVotesCountImpl(1L, "Section 1", "Desc", 10, LocalDateTime.now(), 5L, 3L, 2L, true, false);
+        SectionWithVotesCount section = new SectionWithVotesCountImpl(1L, "Section 1", "Desc", 10, LocalDateTime.now(), 5L, 3L, 2L, true, false, SectionStatus.OPEN);
         List<SectionWithVotesCount> sections = Arrays.asList(section);
-        when(sectionService.getAllSectionsWithVotes(userId)).thenReturn(sections);
+        SectionQuery query = new SectionQuery(null, 50, SectionState.ALL, null, null);
+        when(sectionService.getSectionsWithVotes(userId, query)).thenReturn(new SectionPage(sections, null));
+
+        ResponseEntity<List<SectionWithVotesCount>> result = sectionController.getAllSections(USER, null, 50, SectionState.ALL, null, null);
+        assertEquals(sections, result.getBody());
+        assertFalse(result.getHeaders().containsKey(SectionController.NEXT_CURSOR_HEADER));
+        verify(sectionService).getSectionsWithVotes(userId, query);
+    }
+
+    @Test
+    public void testGetAllSections_NextCursorHeader() {
+        SectionWithVotesCount section = new SectionWithVotesCountImpl(7L, "Section 7", "Desc", 10, LocalDateTime.now(), 0L, 0L, 0L, false, false, SectionStatus.OPEN);
+        when(sectionService.getSectionsWithVotes(eq(1L), any(SectionQuery.class))).thenReturn(new SectionPage(List.of(section), 7L));
+
+        ResponseEntity<List<SectionWithVotesCount>> result = sectionController.getAllSections(USER, 6L, 1, SectionState.OPEN, null, null);
+
+        assertEquals("7", result.getHeaders().getFirst(SectionController.NEXT_CURSOR_HEADER));
+        assertEquals(1, result.getBody().size());
+    }
+
+    @Test
+    public void testGetAllSections_UsesTokenUser() {
+        AuthenticatedUser user = new AuthenticatedUser(3L, "joao@example.com");
+        when(sectionService.getSectionsWithVotes(eq(3L), any(SectionQuery.class))).thenReturn(new SectionPage(List.of(), null));
+
+        sectionController.getAllSections(user, null, 50, SectionState.ALL, null, null);
+
+        verify(sectionService).getSectionsWithVotes(eq(3L), any(SectionQuery.class));
+    }
+
+    @Test
+    public void testStreamSections_WritesOneJsonPerLine() throws Exception {
+        SectionController controller = new SectionController(sectionService, tallyBroadcaster, new ObjectMapper().findAndRegisterModules());
+        doAnswer(invocation -> {
+            Consumer<SectionWithVotesCount> consumer = invocation.getArgument(1);
+            consumer.accept(new SectionVotesDTO(1L, "Section 1", "Desc", 10, LocalDateTime.now(), 5L, 3L, 2L, true, false, SectionStatus.OPEN));
+            consumer.accept(new SectionVotesDTO(2L, "Section 2", "Desc", 10, LocalDateTime.now(), 0L, 0L, 0L, false, true, SectionStatus.CLOSED));
+            return null;
+        }).when(sectionService).streamSectionsWithVotes(eq(1L), any());
+
+        ResponseEntity<StreamingResponseBody> response = controller.streamSections(USER);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].contains("\"isExpired\":true"));
+    }
+
+    @Test
+    public void testStreamTally() {
+        SseEmitter emitter = new SseEmitter();
+        when(tallyBroadcaster.subscribe(1L)).thenReturn(emitter);
 
-        List<SectionWithVotesCount> result = sectionController.getAllSections(userId);
-        assertEquals(sections, result);
-        verify(sectionService).getAllSectionsWithVotes(userId);
+        assertSame(emitter, sectionController.streamTally(1L));
     }
 
     @Test
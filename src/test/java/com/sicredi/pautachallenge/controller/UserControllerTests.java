@@ -4,14 +4,24 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.ResponseEntity;
 
 import com.sicredi.pautachallenge.domain.dto.UserDTO;
+import com.sicredi.pautachallenge.domain.dto.UserImportReport;
+import com.sicredi.pautachallenge.domain.dto.UserPage;
 import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.service.UserImportService;
 import com.sicredi.pautachallenge.service.UserService;
 
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +33,9 @@ class UserControllerTests {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserImportService userImportService;
+
     @InjectMocks
     private UserController userController;
 
@@ -35,9 +48,9 @@ class UserControllerTests {
         UserDTO userDTO = new UserDTO("John Doe", "123456789", "password", "test@example.com");
         UserResponseDTO userResponse = new UserResponseDTO(1L, "John Doe", "123456789", "test@example.com");
 
-        when(userService.createUser(any(UserDTO.class))).thenReturn(userResponse);
+        when(userService.createUser(any(UserDTO.class))).thenReturn(CompletableFuture.completedFuture(userResponse));
 
-        UserResponseDTO result = userController.createUser(userDTO);
+        UserResponseDTO result = userController.createUser(userDTO).join();
 
         assertNotNull(result);
         assertEquals(userResponse.id(), result.id());
@@ -58,4 +71,24 @@ class UserControllerTests {
         assertEquals("Email já cadastrado", exception.getMessage());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void testImportUsers() throws Exception {
+        InputStream csv = new ByteArrayInputStream("name,cpf,password,email\n".getBytes(StandardCharsets.UTF_8));
+        UserImportReport report = new UserImportReport(0, 0, 0, List.of(), false);
+        when(userImportService.importCsv(csv)).thenReturn(report);
+
+        assertSame(report, userController.importUsers(csv));
+    }
+
+    @Test
+    public void testGetUsers_NextCursorHeader() {
+        List<UserResponseDTO> users = List.of(new UserResponseDTO(7L, "John Doe", "123456789", "test@example.com"));
+        when(userService.getUsers(6L, 1)).thenReturn(new UserPage(users, 7L));
+
+        ResponseEntity<List<UserResponseDTO>> result = userController.getUsers(6L, 1);
+
+        assertEquals(users, result.getBody());
+        assertEquals("7", result.getHeaders().getFirst(SectionController.NEXT_CURSOR_HEADER));
+    }
+}
@@ -108,7 +108,8 @@ class ValidationTests {
 
         Set<ConstraintViolation<VoteDTO>> violations = validator.validate(voteDTO);
         assertFalse(violations.isEmpty(), "Deve haver violações para valores nulos");
-        assertEquals(3, violations.size(), "Deve haver 3 violações para valores nulos");
+        // O userId é opcional: vem do token de sessão
+        assertEquals(2, violations.size(), "Deve haver 2 violações para valores nulos");
     }
 
     @Test
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +15,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.sicredi.pautachallenge.domain.dto.VoteBatchResult;
 import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.model.VoteOutcome;
 import com.sicredi.pautachallenge.domain.model.VoteStatus;
 import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.service.VoteBatchService;
 import com.sicredi.pautachallenge.service.VotesService;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +29,9 @@ class VotesControllerTest {
     @Mock
     private VotesService votesService;
 
+    @Mock
+    private VoteBatchService voteBatchService;
+
     @InjectMocks
     private VotesController votesController;
 
@@ -107,4 +114,16 @@ class VotesControllerTest {
         
         verify(votesService, times(1)).createVote(any(VoteDTO.class));
     }
+
+    @Test
+    public void testCreateVotes_Batch() {
+        List<VoteDTO> voteDTOs = List.of(new VoteDTO(1L, 1L, true), new VoteDTO(1L, 2L, false));
+        List<VoteBatchResult> results = List.of(
+            new VoteBatchResult(0, 1L, 1L, VoteOutcome.CREATED, 51L),
+            new VoteBatchResult(1, 1L, 2L, VoteOutcome.DUPLICATE, null));
+        when(voteBatchService.createVotes(voteDTOs)).thenReturn(results);
+
+        assertEquals(results, votesController.createVotes(voteDTOs));
+        verify(voteBatchService).createVotes(voteDTOs);
+    }
 }
@@ -0,0 +1,51 @@
+package com.sicredi.pautachallenge.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.dto.VoteReceipt;
+import com.sicredi.pautachallenge.domain.model.VoteReceiptStatus;
+import com.sicredi.pautachallenge.service.VoteIngestionService;
+
+@ExtendWith(MockitoExtension.class)
+class VotesIngestionControllerTest {
+
+    @Mock
+    private VoteIngestionService voteIngestionService;
+
+    @InjectMocks
+    private VotesIngestionController votesIngestionController;
+
+    @Test
+    public void testSubmitVote_Accepted() {
+        VoteReceipt receipt = new VoteReceipt("abc", 1L, 1L, VoteReceiptStatus.PENDING);
+        when(voteIngestionService.submit(any(VoteDTO.class))).thenReturn(receipt);
+
+        ResponseEntity<VoteReceipt> response = votesIngestionController.submitVote(new VoteDTO(1L, 1L, true));
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(receipt, response.getBody());
+        assertEquals("/votes/receipts/abc", response.getHeaders().getLocation().toString());
+    }
+
+    @Test
+    public void testGetReceipt_NotFound() {
+        when(voteIngestionService.getReceipt("abc")).thenReturn(Optional.empty());
+
+        ResponseEntity<VoteReceipt> response = votesIngestionController.getReceipt("abc");
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
@@ -0,0 +1,119 @@
+package com.sicredi.pautachallenge.infra.eligibility;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import com.sicredi.pautachallenge.config.EligibilityProperties;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+
+class HttpEligibilityClientTests {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(200);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private HttpEligibilityClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users/", this::respond);
+        server.start();
+        String url = "http://localhost:" + server.getAddress().getPort();
+        EligibilityProperties properties = new EligibilityProperties("http", url, Duration.ofMillis(500), READ_TIMEOUT,
+                Duration.ofMinutes(10), 10, 2, Duration.ofSeconds(30), 2, 16, List.of());
+        client = new HttpEligibilityClient(properties, RestClient.builder());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    /**
+     * O CPF informado define a resposta do servidor de teste.
+     */
+    private void respond(HttpExchange exchange) throws IOException {
+        String cpf = exchange.getRequestURI().getPath().substring("/users/".length());
+        switch (cpf) {
+            case "able" -> send(exchange, 200, "{\"status\":\"ABLE_TO_VOTE\"}");
+            case "unable" -> send(exchange, 200, "{\"status\":\"UNABLE_TO_VOTE\"}");
+            case "slow" -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                send(exchange, 200, "{\"status\":\"ABLE_TO_VOTE\"}");
+            }
+            default -> send(exchange, Integer.parseInt(cpf), "{}");
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    @Test
+    public void testCheck_ReturnsStatusFromService() {
+        assertEquals(VoteStatus.ABLE_TO_VOTE, client.check("able"));
+        assertEquals(VoteStatus.UNABLE_TO_VOTE, client.check("unable"));
+    }
+
+    @Test
+    public void testCheck_NotFoundIsUnableToVote() {
+        assertEquals(VoteStatus.UNABLE_TO_VOTE, client.check("404"));
+    }
+
+    @Test
+    public void testCheck_OtherClientErrorsAreReportedAsClientErrors() {
+        EligibilityClientException badRequest = assertThrows(EligibilityClientException.class, () -> client.check("400"));
+        assertEquals(400, badRequest.getStatusCode());
+        assertEquals(429, assertThrows(EligibilityClientException.class, () -> client.check("429")).getStatusCode());
+    }
+
+    @Test
+    public void testCheck_ServerErrorIsAFailure() {
+        assertThrows(HttpServerErrorException.class, () -> client.check("503"));
+    }
+
+    @Test
+    public void testCheck_ReadTimeout() {
+        long start = System.nanoTime();
+
+        assertThrows(ResourceAccessException.class, () -> client.check("slow"));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+    }
+
+    @Test
+    public void testConstructor_RequiresUrl() {
+        EligibilityProperties properties = new EligibilityProperties("http", "", Duration.ofMillis(500), READ_TIMEOUT,
+                Duration.ofMinutes(10), 10, 2, Duration.ofSeconds(30), 2, 16, List.of());
+
+        assertThrows(IllegalStateException.class, () -> new HttpEligibilityClient(properties, RestClient.builder()));
+    }
+}
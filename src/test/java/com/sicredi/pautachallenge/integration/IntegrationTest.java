@@ -1,5 +1,6 @@
 package com.sicredi.pautachallenge.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sicredi.pautachallenge.domain.dto.UserDTO;
 import com.sicredi.pautachallenge.domain.dto.SectionDTO;
@@ -8,6 +9,7 @@ import com.sicredi.pautachallenge.domain.interfaces.UserLoginRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -16,10 +18,16 @@ import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("test")
 @Transactional
 public class IntegrationTest {
@@ -73,6 +81,216 @@ public class IntegrationTest {
 
         assertThat(authResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(authResponse.getBody()).isNotNull();
+
+        // 3. Use the session token instead of the userId parameter
+        String token = objectMapper.readTree(authResponse.getBody()).get("token").asText();
+        HttpHeaders tokenHeaders = new HttpHeaders();
+        tokenHeaders.setBearerAuth(token);
+        ResponseEntity<String> sectionsResponse = restTemplate.exchange(
+            baseUrl + "/section",
+            HttpMethod.GET,
+            new HttpEntity<>(tokenHeaders),
+            String.class
+        );
+
+        assertThat(sectionsResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    public void testVoteTakesUserFromSessionToken() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        UserDTO userDTO = new UserDTO("Ana Souza", "39053344705", "senha456", "ana.token@example.com");
+        restTemplate.postForEntity(baseUrl + "/user", new HttpEntity<>(userDTO, headers), String.class);
+        ResponseEntity<String> authResponse = restTemplate.postForEntity(
+            baseUrl + "/auth",
+            new HttpEntity<>(new UserLoginRequest("ana.token@example.com", "senha456"), headers),
+            String.class
+        );
+        JsonNode auth = objectMapper.readTree(authResponse.getBody());
+        headers.setBearerAuth(auth.get("token").asText());
+
+        // Without userId the vote passes validation and reaches the section check
+        ResponseEntity<String> voteResponse = restTemplate.postForEntity(
+            baseUrl + "/votes",
+            new HttpEntity<>(new VoteDTO(999999L, null, true), headers),
+            String.class
+        );
+        assertThat(voteResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(voteResponse.getBody()).contains("Seção não encontrada");
+
+        // A userId different from the token is refused
+        ResponseEntity<String> otherUserResponse = restTemplate.postForEntity(
+            baseUrl + "/votes",
+            new HttpEntity<>(new VoteDTO(999999L, auth.get("id").asLong() + 1, true), headers),
+            String.class
+        );
+        assertThat(otherUserResponse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(otherUserResponse.getBody()).contains("Usuário informado difere do usuário do token");
+    }
+
+    @Test
+    public void testBatchVotesAreBoundToSessionUser() throws Exception {
+        HttpHeaders memberHeaders = authenticatedHeaders(new UserDTO("Bruno Lima", "28471936500", "senha123", "bruno.lote@example.com"));
+        HttpHeaders operatorHeaders = authenticatedHeaders(new UserDTO("Operador", "61528394755", "senha123", "operador@example.com"));
+        long memberId = userId("bruno.lote@example.com", "senha123");
+
+        ResponseEntity<String> otherMemberResponse = restTemplate.postForEntity(
+            baseUrl + "/votes/batch",
+            new HttpEntity<>(List.of(new VoteDTO(999999L, null, true), new VoteDTO(999999L, memberId + 1, true)), memberHeaders),
+            String.class
+        );
+        assertThat(otherMemberResponse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(otherMemberResponse.getBody()).contains("ACCESS_DENIED");
+
+        ResponseEntity<String> ownVoteResponse = restTemplate.postForEntity(
+            baseUrl + "/votes/batch",
+            new HttpEntity<>(List.of(new VoteDTO(999999L, null, true)), memberHeaders),
+            String.class
+        );
+        assertThat(ownVoteResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(objectMapper.readTree(ownVoteResponse.getBody()).get(0).get("userId").asLong()).isEqualTo(memberId);
+
+        ResponseEntity<String> operatorResponse = restTemplate.postForEntity(
+            baseUrl + "/votes/batch",
+            new HttpEntity<>(List.of(new VoteDTO(999999L, memberId, true)), operatorHeaders),
+            String.class
+        );
+        assertThat(operatorResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(objectMapper.readTree(operatorResponse.getBody()).get(0).get("userId").asLong()).isEqualTo(memberId);
+    }
+
+    @Test
+    public void testImportUsersFromCsv() throws Exception {
+        HttpHeaders headers = authenticatedHeaders(new UserDTO("Operador", "61528394755", "senha123", "operador@example.com"));
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+        String csv = """
+            name,cpf,password,email
+            Carla Lima,71428793860,senha123,carla.import@example.com
+            Inválido,123,senha123,invalido.import@example.com
+            """;
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+            baseUrl + "/user/import",
+            new HttpEntity<>(csv, headers),
+            String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode report = objectMapper.readTree(response.getBody());
+        assertThat(report.get("imported").asLong()).isEqualTo(1);
+        assertThat(report.get("errors").get(0).get("line").asLong()).isEqualTo(3);
+
+        ResponseEntity<String> authResponse = restTemplate.postForEntity(
+            baseUrl + "/auth",
+            new HttpEntity<>(new UserLoginRequest("carla.import@example.com", "senha123"), jsonHeaders()),
+            String.class
+        );
+        assertThat(authResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    /**
+     * Cadastra o usuário e devolve cabeçalhos JSON com o token de sessão emitido no login.
+     */
+    private HttpHeaders authenticatedHeaders(UserDTO user) throws Exception {
+        restTemplate.postForEntity(baseUrl + "/user", new HttpEntity<>(user, jsonHeaders()), String.class);
+        ResponseEntity<String> authResponse = restTemplate.postForEntity(
+            baseUrl + "/auth",
+            new HttpEntity<>(new UserLoginRequest(user.email(), user.password()), jsonHeaders()),
+            String.class
+        );
+        HttpHeaders headers = jsonHeaders();
+        headers.setBearerAuth(objectMapper.readTree(authResponse.getBody()).get("token").asText());
+        return headers;
+    }
+
+    private long userId(String email, String password) throws Exception {
+        ResponseEntity<String> authResponse = restTemplate.postForEntity(
+            baseUrl + "/auth",
+            new HttpEntity<>(new UserLoginRequest(email, password), jsonHeaders()),
+            String.class
+        );
+        return objectMapper.readTree(authResponse.getBody()).get("id").asLong();
+    }
+
+    @Test
+    public void testUserListingIsRestrictedToOperators() throws Exception {
+        ResponseEntity<String> anonymousResponse = restTemplate.getForEntity(baseUrl + "/user", String.class);
+        assertThat(anonymousResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(anonymousResponse.getBody()).doesNotContain("cpf");
+
+        HttpHeaders memberHeaders = authenticatedHeaders(new UserDTO("Lucas Dias", "73194625837", "senha123", "lucas.lista@example.com"));
+        ResponseEntity<String> memberResponse = restTemplate.exchange(
+            baseUrl + "/user", HttpMethod.GET, new HttpEntity<>(memberHeaders), String.class);
+        assertThat(memberResponse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(memberResponse.getBody()).contains("ACCESS_DENIED");
+
+        HttpHeaders operatorHeaders = authenticatedHeaders(new UserDTO("Operador", "61528394755", "senha123", "operador@example.com"));
+        ResponseEntity<String> operatorResponse = restTemplate.exchange(
+            baseUrl + "/user", HttpMethod.GET, new HttpEntity<>(operatorHeaders), String.class);
+        assertThat(operatorResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    public void testImportUsersIsRestrictedToOperators() throws Exception {
+        String csv = "name,cpf,password,email\nDaniel Reis,84620391778,senha123,daniel.import@example.com\n";
+
+        // O TestRestTemplate não lê a resposta 401 de um POST com corpo; usa o cliente HTTP do JDK
+        HttpResponse<String> anonymousResponse = HttpClient.newHttpClient().send(
+            java.net.http.HttpRequest.newBuilder(URI.create(baseUrl + "/user/import"))
+                .header(HttpHeaders.CONTENT_TYPE, "text/csv")
+                .POST(java.net.http.HttpRequest.BodyPublishers.ofString(csv))
+                .build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        assertThat(anonymousResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+
+        HttpHeaders memberHeaders = authenticatedHeaders(new UserDTO("Lucas Dias", "73194625837", "senha123", "lucas.lista@example.com"));
+        memberHeaders.setContentType(MediaType.parseMediaType("text/csv"));
+        ResponseEntity<String> memberResponse = restTemplate.postForEntity(
+            baseUrl + "/user/import", new HttpEntity<>(csv, memberHeaders), String.class);
+        assertThat(memberResponse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        // Nenhuma das tentativas cadastrou o usuário
+        ResponseEntity<String> createResponse = restTemplate.postForEntity(
+            baseUrl + "/user",
+            new HttpEntity<>(new UserDTO("Daniel Reis", "84620391778", "senha123", "daniel.import@example.com"), jsonHeaders()),
+            String.class
+        );
+        assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    public void testRequestWithoutSessionToken() {
+        ResponseEntity<String> sectionsResponse = restTemplate.getForEntity(baseUrl + "/section?userId=1", String.class);
+        assertThat(sectionsResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(sectionsResponse.getBody()).contains("Token de sessão ausente");
+
+        ResponseEntity<String> receiptResponse = restTemplate.getForEntity(baseUrl + "/votes/receipts/inexistente", String.class);
+        assertThat(receiptResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    public void testRequestWithInvalidSessionToken() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth("token-invalido");
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            baseUrl + "/section",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getBody()).contains("AUTHENTICATION_ERROR");
     }
 
     @Test
@@ -85,17 +303,7 @@ public class IntegrationTest {
             "maria@example.com"
         );
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<UserDTO> createUserRequest = new HttpEntity<>(userDTO, headers);
-        ResponseEntity<String> createUserResponse = restTemplate.postForEntity(
-            baseUrl + "/user", 
-            createUserRequest, 
-            String.class
-        );
-
-        assertThat(createUserResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        HttpHeaders headers = authenticatedHeaders(userDTO);
 
         // 2. Create a section
         SectionDTO sectionDTO = new SectionDTO(
@@ -118,7 +326,7 @@ public class IntegrationTest {
         Long sectionId = 1L;
 
         // 4. Create a vote
-        VoteDTO voteDTO = new VoteDTO(sectionId, 1L, true);
+        VoteDTO voteDTO = new VoteDTO(sectionId, null, true);
         HttpEntity<VoteDTO> createVoteRequest = new HttpEntity<>(voteDTO, headers);
         ResponseEntity<String> createVoteResponse = restTemplate.postForEntity(
             baseUrl + "/votes", 
@@ -168,12 +376,13 @@ public class IntegrationTest {
         );
 
         assertThat(duplicateResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(duplicateResponse.getBody()).contains("Email já cadastrado");
     }
 
     @Test
     public void testSectionCreationAndRetrieval() throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpHeaders headers = authenticatedHeaders(
+            new UserDTO("Lucas Prado", "86288366757", "senha123", "lucas.section@example.com"));
 
         // Create a section
         SectionDTO sectionDTO = new SectionDTO(
@@ -192,8 +401,10 @@ public class IntegrationTest {
         assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 
         // Retrieve sections
-        ResponseEntity<String> getResponse = restTemplate.getForEntity(
-            baseUrl + "/section?userId=1", 
+        ResponseEntity<String> getResponse = restTemplate.exchange(
+            baseUrl + "/section",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
             String.class
         );
 
@@ -225,8 +436,8 @@ public class IntegrationTest {
 
     @Test
     public void testVoteWithInvalidData() throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpHeaders headers = authenticatedHeaders(
+            new UserDTO("Rita Alves", "45317828791", "senha123", "rita.invalid@example.com"));
 
         // Test vote with null values
         VoteDTO invalidVote = new VoteDTO(null, null, null);
@@ -260,6 +471,18 @@ public class IntegrationTest {
         // The response body might be null for OPTIONS requests, which is normal
     }
 
+    @Test
+    public void testPrometheusEndpointExposesVotePipelineMetrics() {
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/actuator/prometheus", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+            .contains("pauta_votes_stage_seconds_bucket{stage=\"eligibility\"")
+            .contains("pauta_votes_rejected_total{reason=\"duplicate\"")
+            .contains("pauta_votes_processed_total{status=\"ABLE_TO_VOTE\"")
+            .contains("pauta_votes_tally_loaded_age_seconds");
+    }
+
     @Test
     public void testErrorHandlingForNonExistentEndpoint() throws Exception {
         ResponseEntity<String> response = restTemplate.getForEntity(
@@ -300,6 +523,7 @@ public class IntegrationTest {
             String.class
         );
         assertThat(loginResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        headers.setBearerAuth(objectMapper.readTree(loginResponse.getBody()).get("token").asText());
 
         // 3. Create section
         SectionDTO section = new SectionDTO(
@@ -317,14 +541,16 @@ public class IntegrationTest {
         assertThat(sectionResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 
         // 4. Get sections
-        ResponseEntity<String> getSectionsResponse = restTemplate.getForEntity(
-            baseUrl + "/section?userId=1", 
+        ResponseEntity<String> getSectionsResponse = restTemplate.exchange(
+            baseUrl + "/section",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
             String.class
         );
         assertThat(getSectionsResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
 
         // 5. Attempt to vote (may succeed or fail due to random CPF validation)
-        VoteDTO vote = new VoteDTO(1L, 1L, true);
+        VoteDTO vote = new VoteDTO(1L, null, true);
         HttpEntity<VoteDTO> voteRequest = new HttpEntity<>(vote, headers);
         ResponseEntity<String> voteResponse = restTemplate.postForEntity(
             baseUrl + "/votes", 
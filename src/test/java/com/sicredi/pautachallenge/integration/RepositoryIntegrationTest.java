@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -69,7 +70,7 @@ public class RepositoryIntegrationTest {
         testVote.setSectionId(testSection.getId());
         testVote.setVote(true);
         testVote.setStatus(VoteStatus.ABLE_TO_VOTE);
-        testVote = votesRepository.save(testVote);
+        testVote = votesRepository.saveAndFlush(testVote);
     }
 
     @Test
@@ -138,7 +139,7 @@ public class RepositoryIntegrationTest {
     public void testVoteStatusHandling() {
         // Test vote with different status
         Votes voteWithStatus = new Votes();
-        voteWithStatus.setUserId(testUser.getId());
+        voteWithStatus.setUserId(testUser.getId() + 1);
         voteWithStatus.setSectionId(testSection.getId());
         voteWithStatus.setVote(false);
         voteWithStatus.setStatus(VoteStatus.UNABLE_TO_VOTE);
@@ -236,4 +237,15 @@ public class RepositoryIntegrationTest {
             assertThat(vote).isPresent();
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testDuplicateVoteIsRejected() {
+        Votes duplicate = new Votes(null, testSection.getId(), testUser.getId(), false, VoteStatus.ABLE_TO_VOTE);
+
+        assertThat(votesRepository.insertIfAbsent(duplicate)).isFalse();
+        assertThat(duplicate.getId()).isNull();
+        assertThatThrownBy(() -> votesRepository.saveAndFlush(
+                new Votes(null, testSection.getId(), testUser.getId(), false, VoteStatus.ABLE_TO_VOTE)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -3,11 +3,13 @@ package com.sicredi.pautachallenge.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.sicredi.pautachallenge.domain.model.Section;
@@ -43,4 +45,40 @@ class SectionRepositoryTests {
         // Como não há dados no banco de teste, esperamos uma lista vazia
         assertEquals(0, sections.size());
     }
-} 
\ No newline at end of file
+
+    private Section save(String name, LocalDateTime startAt, int expiration) {
+        return sectionRepository.save(new Section(null, name, "Test Description", expiration, startAt));
+    }
+
+    @Test
+    public void testFindPage_KeysetOnId() {
+        LocalDateTime now = LocalDateTime.now();
+        Section first = save("Section 1", now, 10);
+        Section second = save("Section 2", now, 10);
+        Section third = save("Section 3", now, 10);
+
+        List<Section> page = sectionRepository.findPage(null, null, null, null, now.toEpochSecond(ZoneOffset.UTC), PageRequest.of(0, 2));
+        assertEquals(List.of(first.getId(), second.getId()), page.stream().map(Section::getId).toList());
+
+        List<Section> next = sectionRepository.findPage(second.getId(), null, null, null, now.toEpochSecond(ZoneOffset.UTC), PageRequest.of(0, 2));
+        assertEquals(List.of(third.getId()), next.stream().map(Section::getId).toList());
+    }
+
+    @Test
+    public void testFindPage_FiltersByStateAndCreationWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        Section expired = save("Expired", now.minusHours(2), 10);
+        Section open = save("Open", now.minusMinutes(5), 10);
+        Section old = save("Old open", now.minusDays(3), 60 * 24 * 7);
+        save("Scheduled", now.plusHours(1), 10);
+
+        List<Section> openSections = sectionRepository.findPage(null, null, null, false, now.toEpochSecond(ZoneOffset.UTC), PageRequest.of(0, 10));
+        assertEquals(List.of(open.getId(), old.getId()), openSections.stream().map(Section::getId).toList());
+
+        List<Section> expiredSections = sectionRepository.findPage(null, null, null, true, now.toEpochSecond(ZoneOffset.UTC), PageRequest.of(0, 10));
+        assertEquals(List.of(expired.getId()), expiredSections.stream().map(Section::getId).toList());
+
+        List<Section> recent = sectionRepository.findPage(null, now.minusDays(1), now, null, now.toEpochSecond(ZoneOffset.UTC), PageRequest.of(0, 10));
+        assertEquals(List.of(expired.getId(), open.getId()), recent.stream().map(Section::getId).toList());
+    }
+}
@@ -0,0 +1,67 @@
+package com.sicredi.pautachallenge.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sicredi.pautachallenge.domain.model.Section;
+import com.sicredi.pautachallenge.domain.model.SectionResult;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.domain.model.Votes;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SectionResultRepositoryTest {
+
+    @Autowired
+    private SectionResultRepository sectionResultRepository;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private VotesRepository votesRepository;
+
+    @Test
+    public void testFindSectionIdsToClose() {
+        LocalDateTime now = LocalDateTime.now();
+        Section expired = sectionRepository.saveAndFlush(new Section(null, "Expirada", "Descrição", 10, now.minusHours(1)));
+        Section closed = sectionRepository.saveAndFlush(new Section(null, "Encerrada", "Descrição", 10, now.minusHours(1)));
+        sectionRepository.saveAndFlush(new Section(null, "Aberta", "Descrição", 10, now));
+        sectionResultRepository.saveAndFlush(new SectionResult(closed.getId(), 0L, 0L, now));
+
+        List<Long> ids = sectionResultRepository.findSectionIdsToClose(now.toEpochSecond(ZoneOffset.UTC), PageRequest.of(0, 10));
+
+        assertEquals(List.of(expired.getId()), ids);
+    }
+
+    @Test
+    public void testInsertFromTallyWritesOnce() {
+        votesRepository.insertBatch(List.of(
+            new Votes(null, 1L, 1L, true, VoteStatus.ABLE_TO_VOTE),
+            new Votes(null, 1L, 2L, true, VoteStatus.ABLE_TO_VOTE),
+            new Votes(null, 1L, 3L, false, VoteStatus.ABLE_TO_VOTE)));
+
+        assertEquals(1, sectionResultRepository.insertFromTally(1L, LocalDateTime.now()));
+        assertEquals(0, sectionResultRepository.insertFromTally(1L, LocalDateTime.now()));
+
+        SectionResult result = sectionResultRepository.findById(1L).orElseThrow();
+        assertEquals(2L, result.getVotesTrue());
+        assertEquals(1L, result.getVotesFalse());
+    }
+
+    @Test
+    public void testInsertFromTallyWithoutVotes() {
+        assertEquals(1, sectionResultRepository.insertFromTally(2L, LocalDateTime.now()));
+
+        assertEquals(0L, sectionResultRepository.findById(2L).orElseThrow().getTotalVotes());
+    }
+}
@@ -0,0 +1,68 @@
+package com.sicredi.pautachallenge.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sicredi.pautachallenge.domain.interfaces.SectionTallyTotals;
+import com.sicredi.pautachallenge.domain.model.SectionTallyCounter;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.domain.model.Votes;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SectionTallyRepositoryTest {
+
+    @Autowired
+    private SectionTallyRepository sectionTallyRepository;
+
+    @Autowired
+    private VotesRepository votesRepository;
+
+    @Test
+    public void testVoteInsertsUpdateStripedRows() {
+        votesRepository.insertBatch(List.of(
+            new Votes(null, 1L, 1L, true, VoteStatus.ABLE_TO_VOTE),
+            new Votes(null, 1L, 2L, false, VoteStatus.ABLE_TO_VOTE),
+            new Votes(null, 1L, 1L + SectionTallyCounter.STRIPES, true, VoteStatus.ABLE_TO_VOTE)));
+        votesRepository.insertIfAbsent(new Votes(null, 1L, 3L, true, VoteStatus.ABLE_TO_VOTE));
+        votesRepository.insertIfAbsent(new Votes(null, 1L, 3L, false, VoteStatus.ABLE_TO_VOTE));
+
+        List<SectionTallyCounter> rows = sectionTallyRepository.findAll();
+        assertEquals(3, rows.size());
+        SectionTallyCounter stripeOne = sectionTallyRepository
+            .findById(new SectionTallyCounter.Key(1L, SectionTallyCounter.stripeOf(1L))).orElseThrow();
+        assertEquals(2L, stripeOne.getVotesTrue());
+        assertEquals(0L, stripeOne.getVotesFalse());
+
+        SectionTallyTotals totals = sectionTallyRepository.sumBySection().get(0);
+        assertEquals(1L, totals.getSectionId());
+        assertEquals(3L, totals.getVotesTrue());
+        assertEquals(1L, totals.getVotesFalse());
+    }
+
+    @Test
+    public void testInsertFromVotesRegeneratesTally() {
+        votesRepository.insertBatch(List.of(
+            new Votes(null, 1L, 1L, true, VoteStatus.ABLE_TO_VOTE),
+            new Votes(null, 1L, 2L, false, VoteStatus.ABLE_TO_VOTE),
+            new Votes(null, 2L, 1L, false, VoteStatus.ABLE_TO_VOTE)));
+        List<SectionTallyTotals> before = sectionTallyRepository.sumBySection();
+
+        sectionTallyRepository.deleteAllInBatch();
+        assertEquals(3, sectionTallyRepository.insertFromVotes(SectionTallyCounter.STRIPES));
+
+        List<SectionTallyTotals> after = sectionTallyRepository.sumBySection();
+        assertEquals(before.size(), after.size());
+        for (int i = 0; i < before.size(); i++) {
+            assertEquals(before.get(i).getSectionId(), after.get(i).getSectionId());
+            assertEquals(before.get(i).getVotesTrue(), after.get(i).getVotesTrue());
+            assertEquals(before.get(i).getVotesFalse(), after.get(i).getVotesFalse());
+        }
+    }
+}
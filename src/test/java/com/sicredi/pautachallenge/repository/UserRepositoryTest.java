@@ -7,8 +7,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
 import com.sicredi.pautachallenge.domain.model.UserEntity;
 
 @DataJpaTest
@@ -84,4 +87,53 @@ class UserRepositoryTest {
         UserEntity foundUser = userRepository.findByCpf("00000000000");
         assertNull(foundUser);
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testDuplicateEmailViolatesNamedConstraint() {
+        userRepository.saveAndFlush(new UserEntity(null, "Primeiro", "dup@example.com", "12345678909", "password"));
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+            () -> userRepository.saveAndFlush(new UserEntity(null, "Segundo", "dup@example.com", "98765432100", "password")));
+        assertTrue(exception.getMessage().toLowerCase().contains(UserEntity.EMAIL_CONSTRAINT));
+    }
+
+    @Test
+    public void testDuplicateCpfViolatesNamedConstraint() {
+        userRepository.saveAndFlush(new UserEntity(null, "Primeiro", "first@example.com", "12345678909", "password"));
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+            () -> userRepository.saveAndFlush(new UserEntity(null, "Segundo", "second@example.com", "12345678909", "password")));
+        assertTrue(exception.getMessage().toLowerCase().contains(UserEntity.CPF_CONSTRAINT));
+    }
+
+    @Test
+    public void testInsertBatchIfAbsentSkipsExistingAndRepeatedUsers() {
+        userRepository.saveAndFlush(new UserEntity(null, "Existente", "existing@example.com", "12345678909", "hash"));
+
+        boolean[] inserted = userRepository.insertBatchIfAbsent(List.of(
+            new UserEntity(null, "Novo", "new@example.com", "11144477735", "hash"),
+            new UserEntity(null, "Email repetido", "existing@example.com", "52998224725", "hash"),
+            new UserEntity(null, "CPF repetido no lote", "other@example.com", "11144477735", "hash")
+        ));
+
+        assertArrayEquals(new boolean[] {true, false, false}, inserted);
+        assertNotNull(userRepository.findByEmail("new@example.com"));
+        assertNull(userRepository.findByEmail("other@example.com"));
+    }
+
+    @Test
+    public void testFindPageReturnsProjectionOrderedById() {
+        UserEntity first = userRepository.save(new UserEntity(null, "Primeiro", "first@example.com", "12345678909", "hash"));
+        UserEntity second = userRepository.save(new UserEntity(null, "Segundo", "second@example.com", "11144477735", "hash"));
+        UserEntity third = userRepository.save(new UserEntity(null, "Terceiro", "third@example.com", "52998224725", "hash"));
+
+        List<UserResponseDTO> firstPage = userRepository.findPage(null, PageRequest.of(0, 2));
+        List<UserResponseDTO> nextPage = userRepository.findPage(second.getId(), PageRequest.of(0, 2));
+
+        assertEquals(List.of(
+            new UserResponseDTO(first.getId(), "Primeiro", "12345678909", "first@example.com"),
+            new UserResponseDTO(second.getId(), "Segundo", "11144477735", "second@example.com")
+        ), firstPage);
+        assertEquals(List.of(third.getId()), nextPage.stream().map(UserResponseDTO::id).toList());
+    }
+}
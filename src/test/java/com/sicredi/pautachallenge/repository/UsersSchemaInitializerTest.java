@@ -0,0 +1,62 @@
+package com.sicredi.pautachallenge.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(UsersSchemaInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UsersSchemaInitializerTest {
+
+    @Autowired
+    private UsersSchemaInitializer usersSchemaInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testEnsureNamedConstraint_DropsLegacyConstraintAlongsideNamedOne() {
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT uk_legacy_email UNIQUE (email)");
+
+        usersSchemaInitializer.ensureNamedConstraint(UserEntity.EMAIL_CONSTRAINT, "email");
+
+        Map<String, Set<String>> constraints = SchemaConstraints.uniqueConstraints(jdbcTemplate, "users");
+        assertEquals(Set.of("email"), constraints.get(UserEntity.EMAIL_CONSTRAINT));
+        assertFalse(constraints.containsKey("uk_legacy_email"));
+    }
+
+    @Test
+    public void testEnsureNamedConstraint_RenamesLegacyConstraint() {
+        jdbcTemplate.execute("ALTER TABLE users DROP CONSTRAINT " + UserEntity.CPF_CONSTRAINT);
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT uk_legacy_cpf UNIQUE (cpf)");
+
+        usersSchemaInitializer.ensureNamedConstraint(UserEntity.CPF_CONSTRAINT, "cpf");
+
+        Map<String, Set<String>> constraints = SchemaConstraints.uniqueConstraints(jdbcTemplate, "users");
+        assertEquals(Set.of("cpf"), constraints.get(UserEntity.CPF_CONSTRAINT));
+        assertFalse(constraints.containsKey("uk_legacy_cpf"));
+    }
+
+    @Test
+    public void testEnsureNamedConstraint_CreatesMissingConstraint() {
+        jdbcTemplate.execute("ALTER TABLE users DROP CONSTRAINT " + UserEntity.EMAIL_CONSTRAINT);
+
+        usersSchemaInitializer.ensureNamedConstraint(UserEntity.EMAIL_CONSTRAINT, "email");
+
+        assertEquals(Set.of("email"), SchemaConstraints.uniqueConstraints(jdbcTemplate, "users").get(UserEntity.EMAIL_CONSTRAINT));
+    }
+}
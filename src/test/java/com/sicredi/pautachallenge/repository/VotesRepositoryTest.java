@@ -2,6 +2,7 @@ package com.sicredi.pautachallenge.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,4 +68,32 @@ class VotesRepositoryTest {
         // Como não há dados no banco de teste, esperamos uma lista vazia
         assertEquals(0, votes.size());
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testInsertBatchAndListVoters() {
+        Votes first = new Votes(null, 1L, 1L, true, VoteStatus.ABLE_TO_VOTE);
+        Votes second = new Votes(null, 2L, 2L, false, VoteStatus.ABLE_TO_VOTE);
+
+        votesRepository.insertBatch(List.of(first, second));
+
+        assertEquals(2, votesRepository.count());
+        assertNotEquals(first.getId(), second.getId());
+        List<long[]> voters = new ArrayList<>();
+        votesRepository.forEachVoter((sectionId, userId) -> voters.add(new long[] { sectionId, userId }));
+        assertEquals(2, voters.size());
+        assertArrayEquals(new long[] { 1L, 1L }, voters.get(0));
+        assertArrayEquals(new long[] { 2L, 2L }, voters.get(1));
+    }
+
+    @Test
+    public void testInsertIfAbsent() {
+        Votes vote = new Votes(null, 1L, 1L, true, VoteStatus.ABLE_TO_VOTE);
+        Votes duplicate = new Votes(null, 1L, 1L, false, VoteStatus.ABLE_TO_VOTE);
+
+        assertTrue(votesRepository.insertIfAbsent(vote));
+        assertNotNull(vote.getId());
+        assertFalse(votesRepository.insertIfAbsent(duplicate));
+        assertNull(duplicate.getId());
+        assertTrue(votesRepository.findByUserIdAndSectionId(1L, 1L).orElseThrow().getVote());
+    }
+}
@@ -0,0 +1,90 @@
+package com.sicredi.pautachallenge.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(VotesSchemaInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VotesSchemaInitializerTest {
+
+    @Autowired
+    private VotesSchemaInitializer votesSchemaInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM votes");
+        jdbcTemplate.update("DELETE FROM section_tally");
+    }
+
+    @Test
+    public void testEnsureUniqueVoter_FailsOnDuplicatesWithoutChangingVotes() {
+        jdbcTemplate.execute("ALTER TABLE votes DROP CONSTRAINT " + VotesSchemaInitializer.UNIQUE_CONSTRAINT);
+        insertVote(1L, 1L, 1L, true);
+        insertVote(2L, 1L, 1L, false);
+        insertVote(3L, 1L, 2L, true);
+        jdbcTemplate.update("INSERT INTO section_tally (section_id, stripe, votes_true, votes_false) VALUES (1, 0, 2, 1)");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, votesSchemaInitializer::ensureUniqueVoter);
+
+        assertTrue(exception.getMessage().contains("1 pares"), exception.getMessage());
+        assertEquals(List.of(1L, 2L, 3L), jdbcTemplate.queryForList("SELECT id FROM votes ORDER BY id", Long.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM section_tally", Integer.class));
+        assertFalse(SchemaConstraints.uniqueConstraints(jdbcTemplate, "votes").containsKey(VotesSchemaInitializer.UNIQUE_CONSTRAINT));
+
+        jdbcTemplate.update("DELETE FROM votes WHERE id = 2");
+        votesSchemaInitializer.ensureUniqueVoter();
+
+        assertTrue(SchemaConstraints.uniqueConstraints(jdbcTemplate, "votes").containsKey(VotesSchemaInitializer.UNIQUE_CONSTRAINT));
+    }
+
+    @Test
+    public void testEnsureUniqueVoter_KeepsTallyWhenConstraintExists() {
+        insertVote(1L, 1L, 1L, true);
+        jdbcTemplate.update("INSERT INTO section_tally (section_id, stripe, votes_true, votes_false) VALUES (1, 0, 1, 0)");
+
+        votesSchemaInitializer.ensureUniqueVoter();
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM section_tally", Integer.class));
+    }
+
+    @Test
+    public void testAlignIdSequence_AdvancesPastExistingIds() {
+        jdbcTemplate.execute("ALTER SEQUENCE votes_seq RESTART WITH 1");
+        insertVote(500L, 1L, 1L, true);
+
+        votesSchemaInitializer.alignIdSequence();
+
+        assertTrue(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR votes_seq", Long.class) > 500L);
+    }
+
+    @Test
+    public void testAlignIdSequence_KeepsSequenceAhead() {
+        jdbcTemplate.execute("ALTER SEQUENCE votes_seq RESTART WITH 1000");
+        insertVote(10L, 1L, 1L, true);
+
+        votesSchemaInitializer.alignIdSequence();
+
+        assertEquals(1000L, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR votes_seq", Long.class));
+    }
+
+    private void insertVote(long id, long sectionId, long userId, boolean vote) {
+        jdbcTemplate.update("INSERT INTO votes (id, section_id, user_id, vote, status) VALUES (?, ?, ?, ?, 'ABLE_TO_VOTE')",
+                id, sectionId, userId, vote);
+    }
+}
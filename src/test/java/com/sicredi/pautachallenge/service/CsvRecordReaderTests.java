@@ -0,0 +1,42 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTests {
+
+    @Test
+    void readsRecordsWithLineNumbers() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("name,email\r\nJoão,joao@example.com\n\nMaria,maria@example.com"));
+
+        assertEquals(List.of("name", "email"), reader.next());
+        assertEquals(1, reader.recordLine());
+        assertEquals(List.of("João", "joao@example.com"), reader.next());
+        assertEquals(2, reader.recordLine());
+        assertEquals(List.of("Maria", "maria@example.com"), reader.next());
+        assertEquals(4, reader.recordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void readsQuotedFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"Silva, João\",\"diz \"\"oi\"\"\",\"linha\nquebrada\",\nfim,,x\n"));
+
+        assertEquals(List.of("Silva, João", "diz \"oi\"", "linha\nquebrada", ""), reader.next());
+        assertEquals(List.of("fim", "", "x"), reader.next());
+        assertEquals(3, reader.recordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void rejectsUnclosedQuote() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,\"b\nc"));
+
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+}
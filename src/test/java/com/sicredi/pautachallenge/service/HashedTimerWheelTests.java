@@ -0,0 +1,64 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedTimerWheelTests {
+
+    private HashedTimerWheel timerWheel;
+
+    @BeforeEach
+    public void setUp() {
+        timerWheel = new HashedTimerWheel(Duration.ofMillis(10), 8, "test-timer");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timerWheel.stop();
+    }
+
+    @Test
+    public void testSchedule_FiresInDeadlineOrderAcrossRounds() throws InterruptedException {
+        // 8 compartimentos de 10ms: 150ms e 250ms exigem mais de uma volta
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        timerWheel.schedule(Duration.ofMillis(250), () -> { fired.add(3); done.countDown(); });
+        timerWheel.schedule(Duration.ofMillis(20), () -> { fired.add(1); done.countDown(); });
+        timerWheel.schedule(Duration.ofMillis(150), () -> { fired.add(2); done.countDown(); });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), fired);
+        assertEquals(0, timerWheel.pending());
+    }
+
+    @Test
+    public void testSchedule_NotBeforeDeadline() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] elapsed = new long[1];
+        timerWheel.schedule(Duration.ofMillis(100), () -> {
+            elapsed[0] = System.nanoTime() - start;
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(elapsed[0] >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testSchedule_PastDeadlineFiresOnNextTick() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        timerWheel.schedule(Duration.ofMillis(-500), done::countDown);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,62 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sicredi.pautachallenge.config.PasswordHashingProperties;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
+
+class PasswordHasherTests {
+
+    private MeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(new PasswordHashingProperties(1, 1, Duration.ofSeconds(2)), meterRegistry,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordHasher.stop();
+    }
+
+    @Test
+    public void testEncodeAndMatches() {
+        String hash = passwordHasher.encode("senha123").join();
+
+        assertTrue(passwordHasher.matches("senha123", hash).join());
+        assertFalse(passwordHasher.matches("outra", hash).join());
+        assertEquals(1, meterRegistry.get("pauta.auth.hashing.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("pauta.auth.hashing.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    public void testRejectsWhenQueueIsFull() {
+        // Uma thread e fila de uma tarefa: a terceira senha enviada de uma vez é recusada
+        List<CompletableFuture<String>> accepted = new ArrayList<>();
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class, () -> {
+            for (int i = 0; i < 10; i++) {
+                accepted.add(passwordHasher.encode("senha" + i));
+            }
+        });
+
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+        assertTrue(accepted.size() >= 2);
+        assertEquals(1.0, meterRegistry.get("pauta.auth.hashing.rejected").counter().count());
+        accepted.forEach(CompletableFuture::join);
+    }
+}
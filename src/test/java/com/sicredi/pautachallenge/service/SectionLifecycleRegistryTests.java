@@ -0,0 +1,154 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sicredi.pautachallenge.config.SectionLifecycleProperties;
+import com.sicredi.pautachallenge.domain.model.Section;
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
+import com.sicredi.pautachallenge.repository.SectionRepository;
+import com.sicredi.pautachallenge.service.SectionLifecycleRegistry.SectionLifecycle;
+
+@ExtendWith(MockitoExtension.class)
+class SectionLifecycleRegistryTests {
+
+    @Mock
+    private SectionRepository sectionRepository;
+
+    private MeterRegistry meterRegistry;
+    private SectionLifecycleRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        SectionLifecycleProperties properties = new SectionLifecycleProperties(2, Duration.ofMillis(10), 64, Duration.ofMillis(100));
+        registry = new SectionLifecycleRegistry(sectionRepository, properties, meterRegistry);
+        registry.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.stop();
+    }
+
+    private Section section(Long id, LocalDateTime startAt, int expiration) {
+        return new Section(id, "Seção " + id, "Descrição", expiration, startAt);
+    }
+
+    private void awaitStatus(SectionLifecycle lifecycle, SectionStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (lifecycle.getStatus() != status && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(status, lifecycle.getStatus());
+    }
+
+    @Test
+    public void testFind_LoadsOnMissAndServesFromRegistry() {
+        when(sectionRepository.findById(1L)).thenReturn(Optional.of(section(1L, LocalDateTime.now(), 10)));
+
+        SectionLifecycle first = registry.find(1L).orElseThrow();
+        SectionLifecycle second = registry.find(1L).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(SectionStatus.OPEN, first.getStatus());
+        verify(sectionRepository, times(1)).findById(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("pauta.sections.lifecycle").tag("status", "OPEN").gauge().value());
+    }
+
+    @Test
+    public void testRegister_AvoidsDatabaseAccess() {
+        registry.register(section(1L, LocalDateTime.now(), 10));
+
+        assertTrue(registry.find(1L).isPresent());
+        verifyNoInteractions(sectionRepository);
+    }
+
+    @Test
+    public void testFind_UnknownSection() {
+        when(sectionRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(registry.find(1L).isEmpty());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testFind_ClosedSectionIsCachedUntilRetention() throws InterruptedException {
+        when(sectionRepository.findById(1L)).thenReturn(Optional.of(section(1L, LocalDateTime.now().minusMinutes(30), 10)));
+
+        assertEquals(SectionStatus.CLOSED, registry.find(1L).orElseThrow().getStatus());
+        assertEquals(SectionStatus.CLOSED, registry.find(1L).orElseThrow().getStatus());
+        verify(sectionRepository, times(1)).findById(1L);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.size() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testStatusOf_DoesNotRegisterOrLoad() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        Section scheduled = section(1L, now.plusMinutes(5), 10);
+
+        assertEquals(SectionStatus.SCHEDULED, registry.statusOf(scheduled, now));
+        assertEquals(0, registry.size());
+
+        SectionLifecycle registered = registry.register(section(2L, now.minusMinutes(10).plusNanos(200_000_000), 10));
+        awaitStatus(registered, SectionStatus.CLOSED);
+        assertEquals(SectionStatus.CLOSED, registry.statusOf(section(2L, now.minusMinutes(10).plusNanos(200_000_000), 10), now));
+        verifyNoInteractions(sectionRepository);
+    }
+
+    @Test
+    public void testTimers_OpenAndCloseSection() throws InterruptedException {
+        // Seção 1 abre em 200ms; seção 2 começou há quase 10 minutos e encerra em 200ms
+        LocalDateTime now = LocalDateTime.now();
+        SectionLifecycle scheduled = registry.register(section(1L, now.plusNanos(200_000_000), 10));
+        SectionLifecycle closing = registry.register(section(2L, now.minusMinutes(10).plusNanos(200_000_000), 10));
+        assertEquals(SectionStatus.SCHEDULED, scheduled.getStatus());
+        assertEquals(SectionStatus.OPEN, closing.getStatus());
+
+        awaitStatus(scheduled, SectionStatus.OPEN);
+        awaitStatus(closing, SectionStatus.CLOSED);
+        assertSame(closing, registry.find(2L).orElseThrow());
+    }
+
+    @Test
+    public void testTimers_RemoveClosedSectionAfterRetention() throws InterruptedException {
+        registry.register(section(1L, LocalDateTime.now().minusMinutes(10).plusNanos(50_000_000), 10));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.size() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testRegister_FullRegistryReturnsUntrackedLifecycle() {
+        LocalDateTime now = LocalDateTime.now();
+        registry.register(section(1L, now, 30));
+        registry.register(section(2L, now, 10));
+
+        SectionLifecycle untracked = registry.register(section(3L, now, 20));
+
+        assertEquals(SectionStatus.OPEN, untracked.getStatus());
+        assertEquals(2, registry.size());
+    }
+}
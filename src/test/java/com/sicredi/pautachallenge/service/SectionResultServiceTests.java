@@ -0,0 +1,113 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.config.SectionClosingProperties;
+import com.sicredi.pautachallenge.domain.model.SectionResult;
+import com.sicredi.pautachallenge.repository.SectionResultRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SectionResultServiceTests {
+
+    @Mock
+    private SectionResultRepository sectionResultRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MeterRegistry meterRegistry;
+    private SectionResultService sectionResultService;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        SectionClosingProperties properties = new SectionClosingProperties(false, Duration.ofSeconds(10), Duration.ofSeconds(5), 4, 500);
+        sectionResultService = new SectionResultService(sectionResultRepository, properties, transactionTemplate, meterRegistry);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sectionResultService.stop();
+    }
+
+    @Test
+    public void testFindAll_ReturnsResultsBySection() {
+        when(sectionResultRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(new SectionResult(1L, 3L, 2L, LocalDateTime.now())));
+
+        Map<Long, SectionResult> results = sectionResultService.findAll(List.of(1L, 2L));
+
+        assertEquals(5L, results.get(1L).getTotalVotes());
+        assertFalse(results.containsKey(2L));
+    }
+
+    @Test
+    public void testFindAll_SkipsQueryWithoutSections() {
+        assertTrue(sectionResultService.findAll(List.of()).isEmpty());
+        verifyNoInteractions(sectionResultRepository);
+    }
+
+    @Test
+    public void testCloseExpiredSections_ClosesInParallel() throws InterruptedException {
+        sectionResultService.afterSingletonsInstantiated();
+        when(sectionResultRepository.findSectionIdsToClose(anyLong(), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L, 3L, 4L))
+            .thenReturn(List.of());
+        // Cada encerramento só termina quando os quatro estão em andamento ao mesmo tempo
+        CountDownLatch running = new CountDownLatch(4);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(sectionResultRepository.insertFromTally(anyLong(), any())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            running.countDown();
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            return 1;
+        });
+        when(sectionResultRepository.findById(anyLong())).thenAnswer(invocation ->
+            Optional.of(new SectionResult(invocation.getArgument(0), 1L, 0L, LocalDateTime.now())));
+
+        int closed = sectionResultService.closeExpiredSections();
+
+        assertEquals(4, closed);
+        assertEquals(4, threads.size());
+        verify(sectionResultRepository).findById(3L);
+        assertEquals(4.0, meterRegistry.get("pauta.sections.closed").counter().count());
+    }
+
+    @Test
+    public void testCloseExpiredSections_StopsOnFailure() {
+        sectionResultService.afterSingletonsInstantiated();
+        when(sectionResultRepository.findSectionIdsToClose(anyLong(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(sectionResultRepository.insertFromTally(eq(1L), any())).thenReturn(1);
+        when(sectionResultRepository.insertFromTally(eq(2L), any())).thenThrow(new IllegalStateException("falha"));
+        when(sectionResultRepository.findById(1L)).thenReturn(Optional.of(new SectionResult(1L, 0L, 0L, LocalDateTime.now())));
+
+        assertEquals(1, sectionResultService.closeExpiredSections());
+        verify(sectionResultRepository, times(1)).findSectionIdsToClose(anyLong(), any(Pageable.class));
+        verify(sectionResultRepository, never()).findById(2L);
+    }
+}
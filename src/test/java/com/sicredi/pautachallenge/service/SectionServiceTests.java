@@ -7,6 +7,8 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,10 +17,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.sicredi.pautachallenge.domain.dto.SectionDTO;
+import com.sicredi.pautachallenge.domain.dto.SectionPage;
+import com.sicredi.pautachallenge.domain.dto.SectionQuery;
 import com.sicredi.pautachallenge.domain.interfaces.SectionWithVotesCount;
 import com.sicredi.pautachallenge.domain.model.Section;
+import com.sicredi.pautachallenge.domain.model.SectionResult;
+import com.sicredi.pautachallenge.domain.model.SectionState;
+import com.sicredi.pautachallenge.domain.model.SectionStatus;
 import com.sicredi.pautachallenge.repository.SectionRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +35,18 @@ class SectionServiceTests {
     @Mock
     private SectionRepository sectionRepository;
 
+    @Mock
+    private VoterIndex voterIndex;
+
+    @Mock
+    private VoteTallyService voteTallyService;
+
+    @Mock
+    private SectionLifecycleRegistry sectionLifecycleRegistry;
+
+    @Mock
+    private SectionResultService sectionResultService;
+
     @InjectMocks
     private SectionService sectionService;
 
@@ -37,13 +57,135 @@ class SectionServiceTests {
     @Test
     public void testGetAllSectionsWithVotes() {
         Long userId = 1L;
-        List<SectionWithVotesCount> sections = new ArrayList<>();
-        when(sectionRepository.findAllWithVotesCount(userId)).thenReturn(sections);
+        Section section = new Section(1L, "Test Section", "This is a test section", 10, LocalDateTime.now());
+        VoteTallyService.SectionTally tally = new VoteTallyService.SectionTally();
+        tally.add(true, 3);
+        tally.add(false, 2);
+
+        when(sectionRepository.findPage(isNull(), isNull(), isNull(), isNull(), anyLong(), eq(PageRequest.of(0, 51))))
+            .thenReturn(List.of(section));
+        when(voterIndex.hasVoted(1L, userId)).thenReturn(true);
+        when(voteTallyService.getTally(1L)).thenReturn(tally);
+        when(sectionLifecycleRegistry.statusOf(eq(section), any())).thenReturn(SectionStatus.OPEN);
+
+        SectionPage page = sectionService.getSectionsWithVotes(userId, new SectionQuery(null, 50, SectionState.ALL, null, null));
+        List<SectionWithVotesCount> result = page.sections();
+
+        assertEquals(1, result.size());
+        assertEquals(5L, result.get(0).getTotalVotes());
+        assertEquals(3L, result.get(0).getVotesTrue());
+        assertEquals(2L, result.get(0).getVotesFalse());
+        assertTrue(result.get(0).getHasVoted());
+        assertFalse(result.get(0).getIsExpired());
+        assertEquals(SectionStatus.OPEN, result.get(0).getStatus());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void testGetSectionsWithVotes_StatusFromLifecycleRegistry() {
+        Section section = new Section(1L, "Test Section", "This is a test section", 10, LocalDateTime.now().plusHours(1));
+        when(sectionRepository.findPage(isNull(), isNull(), isNull(), isNull(), anyLong(), eq(PageRequest.of(0, 51))))
+            .thenReturn(List.of(section));
+        when(voteTallyService.getTally(1L)).thenReturn(new VoteTallyService.SectionTally());
+        when(sectionLifecycleRegistry.statusOf(eq(section), any())).thenReturn(SectionStatus.SCHEDULED);
+
+        SectionWithVotesCount result = sectionService
+            .getSectionsWithVotes(1L, new SectionQuery(null, 50, SectionState.ALL, null, null))
+            .sections().get(0);
+
+        assertEquals(SectionStatus.SCHEDULED, result.getStatus());
+        assertFalse(result.getIsExpired());
+        verify(sectionLifecycleRegistry, never()).find(anyLong());
+    }
+
+    @Test
+    public void testGetSectionsWithVotes_ClosedSectionUsesResult() {
+        Section section = new Section(1L, "Test Section", "This is a test section", 10, LocalDateTime.now().minusHours(1));
+        when(sectionRepository.findPage(isNull(), isNull(), isNull(), isNull(), anyLong(), eq(PageRequest.of(0, 51))))
+            .thenReturn(List.of(section));
+        when(sectionResultService.findAll(List.of(1L))).thenReturn(Map.of(1L, new SectionResult(1L, 4L, 1L, LocalDateTime.now())));
+
+        SectionWithVotesCount result = sectionService
+            .getSectionsWithVotes(1L, new SectionQuery(null, 50, SectionState.ALL, null, null))
+            .sections().get(0);
+
+        assertEquals(5L, result.getTotalVotes());
+        assertEquals(4L, result.getVotesTrue());
+        assertTrue(result.getIsExpired());
+        assertEquals(SectionStatus.CLOSED, result.getStatus());
+        verify(voteTallyService, never()).getTally(anyLong());
+    }
+
+    @Test
+    public void testGetSectionsWithVotes_NextCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Section> rows = List.of(
+            new Section(4L, "Section 4", "Description", 10, now),
+            new Section(5L, "Section 5", "Description", 10, now),
+            new Section(6L, "Section 6", "Description", 10, now));
+        when(sectionRepository.findPage(eq(3L), isNull(), isNull(), eq(false), anyLong(), eq(PageRequest.of(0, 3))))
+            .thenReturn(rows);
+        when(voteTallyService.getTally(anyLong())).thenReturn(new VoteTallyService.SectionTally());
+
+        SectionPage page = sectionService.getSectionsWithVotes(1L, new SectionQuery(3L, 2, SectionState.OPEN, null, null));
+
+        assertEquals(2, page.sections().size());
+        assertEquals(5L, page.nextCursor());
+    }
 
-        List<SectionWithVotesCount> result = sectionService.getAllSectionsWithVotes(userId);
+    @Test
+    public void testStreamSectionsWithVotes() {
+        Section section = new Section(1L, "Test Section", "This is a test section", 10, LocalDateTime.now().minusHours(1));
+        when(sectionRepository.findPage(isNull(), isNull(), isNull(), isNull(), anyLong(), eq(PageRequest.of(0, SectionService.STREAM_PAGE_SIZE))))
+            .thenReturn(List.of(section));
+        when(voteTallyService.getTally(1L)).thenReturn(new VoteTallyService.SectionTally());
+        when(sectionLifecycleRegistry.statusOf(eq(section), any())).thenReturn(SectionStatus.CLOSED);
+
+        List<SectionWithVotesCount> streamed = new ArrayList<>();
+        sectionService.streamSectionsWithVotes(1L, streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertTrue(streamed.get(0).getIsExpired());
+        verify(sectionRepository, never()).findAll();
+    }
 
-        assertEquals(sections, result);
-        verify(sectionRepository).findAllWithVotesCount(userId);
+    @Test
+    public void testStreamSectionsWithVotes_ReadsPagesByCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Section> firstPage = LongStream.rangeClosed(1, SectionService.STREAM_PAGE_SIZE)
+            .mapToObj(id -> new Section(id, "Section " + id, "Description", 10, now))
+            .toList();
+        long lastId = SectionService.STREAM_PAGE_SIZE;
+        when(sectionRepository.findPage(isNull(), isNull(), isNull(), isNull(), anyLong(), any()))
+            .thenReturn(firstPage);
+        when(sectionRepository.findPage(eq(lastId), isNull(), isNull(), isNull(), anyLong(), any()))
+            .thenReturn(List.of(new Section(lastId + 1, "Last", "Description", 10, now)));
+        when(voteTallyService.getTally(anyLong())).thenReturn(new VoteTallyService.SectionTally());
+
+        List<SectionWithVotesCount> streamed = new ArrayList<>();
+        sectionService.streamSectionsWithVotes(1L, streamed::add);
+
+        assertEquals(SectionService.STREAM_PAGE_SIZE + 1, streamed.size());
+        assertEquals(lastId + 1, streamed.get(streamed.size() - 1).getId());
+        verify(sectionRepository, times(2)).findPage(any(), isNull(), isNull(), isNull(), anyLong(), any());
+    }
+
+    @Test
+    public void testGetSectionsWithVotes_InvalidLimit() {
+        assertThrows(IllegalArgumentException.class,
+            () -> sectionService.getSectionsWithVotes(1L, new SectionQuery(null, 0, SectionState.ALL, null, null)));
+        assertThrows(IllegalArgumentException.class,
+            () -> sectionService.getSectionsWithVotes(1L, new SectionQuery(null, SectionService.MAX_PAGE_SIZE + 1, SectionState.ALL, null, null)));
+        verifyNoInteractions(sectionRepository);
+    }
+
+    @Test
+    public void testGetSectionsWithVotes_InvalidCreationWindow() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> sectionService.getSectionsWithVotes(1L, new SectionQuery(null, 10, SectionState.ALL, now, now.minusDays(1))));
+        verifyNoInteractions(sectionRepository);
     }
 
     @Test
@@ -65,5 +207,18 @@ class SectionServiceTests {
         assertEquals(expectedSection.getId(), actualSection.getId());
         assertEquals(expectedSection.getName(), actualSection.getName());
         verify(sectionRepository).save(any(Section.class));
+        verify(sectionLifecycleRegistry).register(expectedSection);
+    }
+
+    @Test
+    public void testCreateSection_ScheduledOpening() {
+        LocalDateTime startAt = LocalDateTime.now().plusDays(1);
+        SectionDTO sectionDTO = new SectionDTO("Test Section", "This is a test section", 10, startAt);
+        when(sectionRepository.save(any(Section.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Section actualSection = sectionService.createSection(sectionDTO);
+
+        assertEquals(startAt, actualSection.getStart_at());
+        verify(sectionLifecycleRegistry).register(actualSection);
     }
 }
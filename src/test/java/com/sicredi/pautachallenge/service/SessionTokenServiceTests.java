@@ -0,0 +1,95 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.sicredi.pautachallenge.config.SessionTokenProperties;
+import com.sicredi.pautachallenge.domain.dto.AuthResponseDTO;
+import com.sicredi.pautachallenge.domain.dto.AuthenticatedUser;
+import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.exception.AuthenticationException;
+
+class SessionTokenServiceTests {
+
+    private static final String SECRET = "segredo-de-teste-com-pelo-menos-32-bytes";
+    private static final Instant NOW = Instant.parse("2025-08-07T22:00:00Z");
+    private static final UserResponseDTO USER = new UserResponseDTO(7L, "João Silva", "12345678909", "joao@example.com");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SessionTokenService service(String secret, Instant now) {
+        return new SessionTokenService(new SessionTokenProperties(secret, Duration.ofMinutes(15), "pauta-challenge"),
+                meterRegistry, Clock.fixed(now, ZoneOffset.UTC), true);
+    }
+
+    @Test
+    void issuedTokenIsVerifiedWithoutLookup() {
+        SessionTokenService service = service(SECRET, NOW);
+
+        AuthResponseDTO response = service.issue(USER);
+        AuthenticatedUser user = service.verify(response.token());
+
+        assertEquals("Bearer", response.tokenType());
+        assertEquals(900, response.expiresIn());
+        assertEquals(USER.name(), response.name());
+        assertEquals(new AuthenticatedUser(7L, "joao@example.com"), user);
+        assertEquals(1.0, meterRegistry.get("pauta.auth.tokens").tag("result", "issued").counter().count());
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = service(SECRET, NOW).issue(USER).token();
+
+        SessionTokenService later = service(SECRET, NOW.plus(Duration.ofMinutes(16)));
+
+        assertThrows(AuthenticationException.class, () -> later.verify(token));
+        assertEquals(1.0, meterRegistry.get("pauta.auth.tokens").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String token = service("outro-segredo-de-teste-com-mais-de-32-bytes", NOW).issue(USER).token();
+
+        assertThrows(AuthenticationException.class, () -> service(SECRET, NOW).verify(token));
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        SessionTokenService service = service(SECRET, NOW);
+
+        assertThrows(AuthenticationException.class, () -> service.verify("token-invalido"));
+        assertThrows(AuthenticationException.class, () -> service.verify(""));
+    }
+
+    @Test
+    void shortSecretIsRefused() {
+        assertThrows(IllegalStateException.class, () -> service("curto", NOW));
+    }
+
+    @Test
+    void blankSecretUsesRandomKey() {
+        String token = service("", NOW).issue(USER).token();
+
+        assertThrows(AuthenticationException.class, () -> service("", NOW).verify(token));
+    }
+
+    @Test
+    void randomKeyIsAllowedOnlyInDevAndTestProfiles() {
+        MockEnvironment production = new MockEnvironment();
+        production.setActiveProfiles("prod");
+        MockEnvironment development = new MockEnvironment();
+        development.setActiveProfiles("dev");
+        SessionTokenProperties properties = new SessionTokenProperties("", Duration.ofMinutes(15), "pauta-challenge");
+
+        assertThrows(IllegalStateException.class, () -> new SessionTokenService(properties, meterRegistry, production));
+        assertNotNull(new SessionTokenService(properties, meterRegistry, development).issue(USER).token());
+    }
+}
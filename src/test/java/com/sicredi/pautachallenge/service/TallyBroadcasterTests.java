@@ -0,0 +1,209 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sicredi.pautachallenge.config.TallyStreamProperties;
+import com.sicredi.pautachallenge.domain.dto.SectionTallyEvent;
+import com.sicredi.pautachallenge.exception.SectionNotFoundException;
+import com.sicredi.pautachallenge.domain.model.Section;
+import com.sicredi.pautachallenge.service.SectionLifecycleRegistry.SectionLifecycle;
+
+@ExtendWith(MockitoExtension.class)
+class TallyBroadcasterTests {
+
+    @Mock
+    private VoteTallyService voteTallyService;
+
+    @Mock
+    private SectionLifecycleRegistry sectionLifecycleRegistry;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private TallyBroadcaster tallyBroadcaster;
+
+    @BeforeEach
+    public void setUp() {
+        TallyStreamProperties properties = new TallyStreamProperties(Duration.ofSeconds(1), Duration.ofMinutes(30), 1, Duration.ofSeconds(10));
+        tallyBroadcaster = new TallyBroadcaster(properties, voteTallyService, sectionLifecycleRegistry, new SimpleMeterRegistry(),
+                Runnable::run) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private SectionLifecycle openLifecycle() {
+        return SectionLifecycle.of(new Section(1L, "Seção", "Descrição", 10, LocalDateTime.now().minusMinutes(1)), LocalDateTime.now());
+    }
+
+    @Test
+    public void testSubscribe_SendsCurrentTally() {
+        VoteTallyService.SectionTally tally = new VoteTallyService.SectionTally();
+        tally.add(true, 3);
+        tally.add(false, 2);
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(openLifecycle()));
+        when(voteTallyService.getTally(1L)).thenReturn(tally);
+
+        tallyBroadcaster.subscribe(1L);
+
+        assertEquals(List.of(new SectionTallyEvent(1L, 5, 3, 2, false)), emitters.get(0).events);
+        assertEquals(1, tallyBroadcaster.getSubscriberCount());
+    }
+
+    @Test
+    public void testSubscribe_SectionNotFound() {
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.empty());
+
+        assertThrows(SectionNotFoundException.class, () -> tallyBroadcaster.subscribe(1L));
+        assertEquals(0, tallyBroadcaster.getSubscriberCount());
+    }
+
+    @Test
+    public void testPublish_CoalescesUpdatesAndComputesOncePerSection() {
+        VoteTallyService.SectionTally tally = new VoteTallyService.SectionTally();
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(openLifecycle()));
+        when(voteTallyService.getTally(1L)).thenReturn(tally);
+        for (int i = 0; i < 3; i++) {
+            tallyBroadcaster.subscribe(1L);
+        }
+        clearInvocations(voteTallyService);
+
+        tallyBroadcaster.publish();
+        tally.add(true, 1);
+        tally.add(true, 1);
+        tally.add(false, 1);
+        tallyBroadcaster.publish();
+
+        verify(voteTallyService, times(2)).getTally(1L);
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(2, emitter.events.size());
+            assertEquals(new SectionTallyEvent(1L, 3, 2, 1, false), emitter.events.get(1));
+        }
+    }
+
+    @Test
+    public void testPublish_CompletesSubscribersWhenSectionExpires() {
+        SectionLifecycle lifecycle = openLifecycle();
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(lifecycle));
+        when(voteTallyService.getTally(1L)).thenReturn(new VoteTallyService.SectionTally());
+        tallyBroadcaster.subscribe(1L);
+
+        lifecycle.close();
+        tallyBroadcaster.publish();
+
+        RecordingEmitter emitter = emitters.get(0);
+        assertTrue(emitter.events.get(emitter.events.size() - 1).isExpired());
+        assertTrue(emitter.completed);
+        assertEquals(0, tallyBroadcaster.getSubscriberCount());
+    }
+
+    @Test
+    public void testPublish_DropsDisconnectedSubscriber() {
+        VoteTallyService.SectionTally tally = new VoteTallyService.SectionTally();
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(openLifecycle()));
+        when(voteTallyService.getTally(1L)).thenReturn(tally);
+        tallyBroadcaster.subscribe(1L);
+        tallyBroadcaster.subscribe(1L);
+        emitters.get(0).disconnected = true;
+
+        tally.add(true, 1);
+        tallyBroadcaster.publish();
+
+        assertEquals(1, tallyBroadcaster.getSubscriberCount());
+        assertEquals(2, emitters.get(1).events.size());
+    }
+
+    @Test
+    public void testPublish_DropsLaggingSubscriberWithoutBlockingOthers() throws Exception {
+        TallyStreamProperties properties = new TallyStreamProperties(Duration.ofSeconds(1), Duration.ofMinutes(30), 2, Duration.ofMillis(50));
+        TallyBroadcaster broadcaster = new TallyBroadcaster(properties, voteTallyService, sectionLifecycleRegistry, new SimpleMeterRegistry()) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        VoteTallyService.SectionTally tally = new VoteTallyService.SectionTally();
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(openLifecycle()));
+        when(voteTallyService.getTally(1L)).thenReturn(tally);
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(1L);
+        RecordingEmitter stalled = emitters.get(0);
+        stalled.stall = new CountDownLatch(1);
+
+        try {
+            tally.add(true, 1);
+            broadcaster.publish();
+            Thread.sleep(100);
+            tally.add(true, 1);
+            broadcaster.publish();
+
+            assertEquals(1, broadcaster.getSubscriberCount());
+            awaitEvents(emitters.get(1), 3);
+            assertEquals(new SectionTallyEvent(1L, 2, 2, 0, false), emitters.get(1).events.get(2));
+        } finally {
+            stalled.stall.countDown();
+        }
+    }
+
+    private static void awaitEvents(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.events.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<SectionTallyEvent> events = new CopyOnWriteArrayList<>();
+        private volatile boolean disconnected;
+        private volatile boolean completed;
+        private volatile CountDownLatch stall;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) {
+                throw new IOException("Broken pipe");
+            }
+            if (stall != null) {
+                try {
+                    stall.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            builder.build().stream()
+                .map(data -> data.getData())
+                .filter(SectionTallyEvent.class::isInstance)
+                .map(SectionTallyEvent.class::cast)
+                .forEach(events::add);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sicredi.pautachallenge.config.UserCacheProperties;
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+import com.sicredi.pautachallenge.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserCredentialCacheTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private UserCredentialCache cache(boolean enabled, int maxSize) {
+        return new UserCredentialCache(userRepository, new UserCacheProperties(enabled, Duration.ofMinutes(5), maxSize),
+                meterRegistry, nanos::get);
+    }
+
+    private static UserEntity user(long id, String email) {
+        return new UserEntity(id, "Usuário " + id, email, "1234567890" + id, "hash");
+    }
+
+    @Test
+    void repeatedLookupsHitCache() {
+        UserCredentialCache cache = cache(true, 10);
+        UserEntity user = user(1L, "joao@example.com");
+        when(userRepository.findByEmail("joao@example.com")).thenReturn(user);
+
+        assertSame(user, cache.findByEmail("joao@example.com"));
+        assertSame(user, cache.findByEmail("joao@example.com"));
+
+        verify(userRepository, times(1)).findByEmail("joao@example.com");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", UserCredentialCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        UserCredentialCache cache = cache(true, 10);
+        when(userRepository.findByEmail("joao@example.com")).thenReturn(user(1L, "joao@example.com"));
+
+        cache.findByEmail("joao@example.com");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        cache.findByEmail("joao@example.com");
+
+        verify(userRepository, times(2)).findByEmail("joao@example.com");
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        UserCredentialCache cache = cache(true, 10);
+        when(userRepository.findByEmail("joao@example.com")).thenReturn(user(1L, "joao@example.com"));
+
+        cache.findByEmail("joao@example.com");
+        cache.invalidate("joao@example.com");
+        cache.findByEmail("joao@example.com");
+
+        verify(userRepository, times(2)).findByEmail("joao@example.com");
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        UserCredentialCache cache = cache(true, 10);
+
+        assertNull(cache.findByEmail("nobody@example.com"));
+        assertNull(cache.findByEmail("nobody@example.com"));
+
+        verify(userRepository, times(2)).findByEmail("nobody@example.com");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void fullCacheEvictsExpiredEntriesBeforeRefusing() {
+        UserCredentialCache cache = cache(true, 1);
+        when(userRepository.findByEmail("a@example.com")).thenReturn(user(1L, "a@example.com"));
+        when(userRepository.findByEmail("b@example.com")).thenReturn(user(2L, "b@example.com"));
+
+        cache.findByEmail("a@example.com");
+        cache.findByEmail("b@example.com");
+        assertEquals(1, cache.size());
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        cache.findByEmail("b@example.com");
+        cache.findByEmail("b@example.com");
+
+        assertEquals(1, cache.size());
+        verify(userRepository, times(2)).findByEmail("b@example.com");
+    }
+
+    @Test
+    void disabledCacheAlwaysQueriesRepository() {
+        UserCredentialCache cache = cache(false, 10);
+        when(userRepository.findByEmail("joao@example.com")).thenReturn(user(1L, "joao@example.com"));
+
+        cache.findByEmail("joao@example.com");
+        cache.findByEmail("joao@example.com");
+
+        verify(userRepository, times(2)).findByEmail("joao@example.com");
+        assertEquals(0, cache.size());
+    }
+}
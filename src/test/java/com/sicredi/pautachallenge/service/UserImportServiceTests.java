@@ -0,0 +1,153 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.sicredi.pautachallenge.config.PasswordHashingProperties;
+import com.sicredi.pautachallenge.config.UserImportProperties;
+import com.sicredi.pautachallenge.domain.dto.UserImportReport;
+import com.sicredi.pautachallenge.domain.model.UserEntity;
+import com.sicredi.pautachallenge.infra.mapper.UserMapper;
+import com.sicredi.pautachallenge.repository.UserRepository;
+import com.sicredi.pautachallenge.utils.BcryptUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+    private UserImportService service;
+
+    @BeforeEach
+    void setUp() {
+        passwordHasher = new PasswordHasher(new PasswordHashingProperties(1, 1, Duration.ofSeconds(1)), meterRegistry,
+                Executors.newVirtualThreadPerTaskExecutor());
+        service = service(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.stop();
+    }
+
+    private UserImportService service(int maxErrors) {
+        return new UserImportService(new UserImportProperties(2, 2, maxErrors), userRepository, new UserMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), passwordHasher, meterRegistry);
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importsValidRowsInBatchesWithHashedPasswords() throws IOException {
+        when(userRepository.insertBatchIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<UserEntity> users = invocation.getArgument(0);
+            users.forEach(user -> assertTrue(BcryptUtils.comparePasswords("senha123", user.getPassword())));
+            boolean[] inserted = new boolean[users.size()];
+            Arrays.fill(inserted, true);
+            return inserted;
+        });
+
+        UserImportReport report = service.importCsv(csv("""
+            email,name,password,cpf
+            joao@example.com,João Silva,senha123,11144477735
+            maria@example.com,Maria Souza,senha123,52998224725
+            pedro@example.com,Pedro Santos,senha123,39053344705
+            """));
+
+        assertEquals(new UserImportReport(3, 3, 0, List.of(), false), report);
+        verify(userRepository, times(2)).insertBatchIfAbsent(anyList());
+    }
+
+    @Test
+    void waitsForTheSharedHashingQueue() throws IOException {
+        // Três senhas em andamento não cabem no pool de uma thread com fila de uma tarefa
+        UserImportService wideImport = new UserImportService(new UserImportProperties(3, 3, 2), userRepository, new UserMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), passwordHasher, meterRegistry);
+        when(userRepository.insertBatchIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<UserEntity> users = invocation.getArgument(0);
+            boolean[] inserted = new boolean[users.size()];
+            Arrays.fill(inserted, true);
+            return inserted;
+        });
+
+        UserImportReport report = wideImport.importCsv(csv("""
+            name,cpf,password,email
+            João Silva,11144477735,senha123,joao@example.com
+            Maria Souza,52998224725,senha123,maria@example.com
+            Pedro Santos,39053344705,senha123,pedro@example.com
+            """));
+
+        assertEquals(3, report.imported());
+        assertEquals(3, meterRegistry.get("pauta.auth.hashing.duration").tag("operation", "encode").timer().count());
+        assertTrue(meterRegistry.get("pauta.auth.hashing.rejected").counter().count() > 0);
+    }
+
+    @Test
+    void reportsInvalidAndDuplicateRows() throws IOException {
+        when(userRepository.insertBatchIfAbsent(anyList())).thenReturn(new boolean[] {true, false});
+
+        UserImportReport report = service.importCsv(csv("""
+            name,cpf,password,email
+            João Silva,11144477735,senha123,joao@example.com
+            Maria Souza,12345678900,senha123,maria@example.com
+            Pedro Santos,39053344705,senha123,pedro@example.com
+            Ana,123
+            """));
+
+        assertEquals(4, report.rows());
+        assertEquals(1, report.imported());
+        assertEquals(3, report.rejected());
+        assertEquals(List.of(
+            new UserImportReport.RowError(3, "CPF inválido"),
+            new UserImportReport.RowError(4, UserImportService.DUPLICATE_MESSAGE)
+        ), report.errors());
+        assertTrue(report.errorsTruncated());
+    }
+
+    @Test
+    void fallsBackToSingleInsertsOnConflict() throws IOException {
+        when(userRepository.insertBatchIfAbsent(anyList())).thenThrow(new DataIntegrityViolationException("uk_users_email"));
+        when(userRepository.insertIfAbsent(any(UserEntity.class))).thenReturn(true, false);
+
+        UserImportReport report = service.importCsv(csv("""
+            name,cpf,password,email
+            João Silva,11144477735,senha123,joao@example.com
+            Maria Souza,52998224725,senha123,joao@example.com
+            """));
+
+        assertEquals(1, report.imported());
+        assertEquals(List.of(new UserImportReport.RowError(3, UserImportService.DUPLICATE_MESSAGE)), report.errors());
+    }
+
+    @Test
+    void rejectsHeaderWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(csv("name,cpf,email\nJoão,11144477735,joao@example.com\n")));
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(csv("")));
+        verifyNoInteractions(userRepository);
+    }
+}
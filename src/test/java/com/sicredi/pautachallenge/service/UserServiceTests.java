@@ -4,9 +4,14 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,11 +19,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import com.sicredi.pautachallenge.domain.dto.UserDTO;
+import com.sicredi.pautachallenge.domain.dto.UserPage;
 import com.sicredi.pautachallenge.domain.dto.UserResponseDTO;
+import com.sicredi.pautachallenge.domain.interfaces.UserLoginRequest;
 import com.sicredi.pautachallenge.domain.model.UserEntity;
 import com.sicredi.pautachallenge.exception.AuthenticationException;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
 import com.sicredi.pautachallenge.infra.mapper.UserMapper;
 import com.sicredi.pautachallenge.repository.UserRepository;
 import com.sicredi.pautachallenge.utils.BcryptUtils;
@@ -32,6 +42,12 @@ class UserServiceTests {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private UserCredentialCache userCredentialCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -41,41 +57,36 @@ class UserServiceTests {
 
     @Test
     public void testGetUsers() {
-        UserEntity user1 = new UserEntity();
-        user1.setId(1L);
-        user1.setName("John Doe 1");
-        user1.setCpf("123456789");
-        user1.setPassword("password");
-        user1.setEmail("test@example.com");
-        
-        UserEntity user2 = new UserEntity();
-        user2.setId(2L);
-        user2.setName("John Doe 2");
-        user2.setCpf("123456789");
-        user2.setPassword("password");
-        user2.setEmail("test2@example.com");
-        
-        List<UserEntity> users = Arrays.asList(user1, user2);
-
-        List<UserResponseDTO> expectedResponseDTOs = Arrays.asList(
+        List<UserResponseDTO> rows = Arrays.asList(
                 new UserResponseDTO(1L, "John Doe 1", "123456789", "test@example.com"),
-                new UserResponseDTO(2L, "John Doe 2", "123456789", "test2@example.com"));
-
-        when(userRepository.findAll()).thenReturn(users);
-        when(userMapper.toResponseDTO(any(UserEntity.class))).thenAnswer(invocation -> {
-            UserEntity entity = invocation.getArgument(0);
-            if (entity.getId() == 1L) {
-                return expectedResponseDTOs.get(0);
-            } else {
-                return expectedResponseDTOs.get(1);
-            }
-        });
-
-        List<UserResponseDTO> returnedUsers = userService.getUsers();
-
-        assertEquals(2, returnedUsers.size());
-        assertEquals(expectedResponseDTOs.get(0).email(), returnedUsers.get(0).email());
-        assertEquals(expectedResponseDTOs.get(1).email(), returnedUsers.get(1).email());
+                new UserResponseDTO(2L, "John Doe 2", "123456789", "test2@example.com"),
+                new UserResponseDTO(3L, "John Doe 3", "123456789", "test3@example.com"));
+
+        when(userRepository.findPage(null, PageRequest.of(0, 3))).thenReturn(rows);
+
+        UserPage page = userService.getUsers(null, 2);
+
+        assertEquals(rows.subList(0, 2), page.users());
+        assertEquals(2L, page.nextCursor());
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    public void testGetUsers_LastPage() {
+        List<UserResponseDTO> rows = List.of(new UserResponseDTO(3L, "John Doe 3", "123456789", "test3@example.com"));
+        when(userRepository.findPage(2L, PageRequest.of(0, 3))).thenReturn(rows);
+
+        UserPage page = userService.getUsers(2L, 2);
+
+        assertEquals(rows, page.users());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void testGetUsers_InvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers(null, UserService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -84,16 +95,71 @@ class UserServiceTests {
         UserEntity userEntity = new UserEntity(1L, "John Doe", "123456789", "encrypted_password", "test@example.com");
         UserResponseDTO expectedResponseDTO = new UserResponseDTO(1L, "John Doe", "123456789", "test@example.com");
 
-        when(userRepository.findByEmail(userDTO.email())).thenReturn(null);
-        when(userRepository.findByCpf(userDTO.cpf())).thenReturn(null);
+        when(passwordHasher.encode("password")).thenReturn(CompletableFuture.completedFuture("encrypted_password"));
         when(userMapper.toEntity(userDTO)).thenReturn(userEntity);
         when(userRepository.save(any(UserEntity.class))).thenReturn(userEntity);
         when(userMapper.toResponseDTO(userEntity)).thenReturn(expectedResponseDTO);
 
-        UserResponseDTO createdUser = userService.createUser(userDTO);
+        UserResponseDTO createdUser = userService.createUser(userDTO).join();
 
         assertEquals(expectedResponseDTO.email(), createdUser.email());
         assertNotNull(createdUser.id());
+        verify(userRepository).save(argThat(saved -> "encrypted_password".equals(saved.getPassword())));
+        verify(userCredentialCache).invalidate(userEntity.getEmail());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).findByCpf(anyString());
+        verify(userRepository).save(any(UserEntity.class));
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    public void testCreateUser_DuplicateEmail() {
+        UserDTO userDTO = new UserDTO("John Doe", "123456789", "password", "test@example.com");
+        when(passwordHasher.encode("password")).thenReturn(CompletableFuture.completedFuture("encrypted_password"));
+        when(userMapper.toEntity(userDTO)).thenReturn(new UserEntity());
+        when(userRepository.save(any(UserEntity.class))).thenThrow(uniqueViolation("PUBLIC.UK_USERS_EMAIL_INDEX_4"));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> userService.createUser(userDTO).join());
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals("Email já cadastrado", exception.getCause().getMessage());
+        verifyNoInteractions(userCredentialCache);
+    }
+
+    @Test
+    public void testCreateUser_DuplicateCpf() {
+        UserDTO userDTO = new UserDTO("John Doe", "123456789", "password", "test@example.com");
+        when(passwordHasher.encode("password")).thenReturn(CompletableFuture.completedFuture("encrypted_password"));
+        when(userMapper.toEntity(userDTO)).thenReturn(new UserEntity());
+        when(userRepository.save(any(UserEntity.class))).thenThrow(uniqueViolation("uk_users_cpf"));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> userService.createUser(userDTO).join());
+        assertEquals("CPF já cadastrado", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void testCreateUser_OtherIntegrityViolationIsRethrown() {
+        UserDTO userDTO = new UserDTO("John Doe", "123456789", "password", "test@example.com");
+        when(passwordHasher.encode("password")).thenReturn(CompletableFuture.completedFuture("encrypted_password"));
+        when(userMapper.toEntity(userDTO)).thenReturn(new UserEntity());
+        when(userRepository.save(any(UserEntity.class))).thenThrow(uniqueViolation("users_name_not_null"));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> userService.createUser(userDTO).join());
+        assertInstanceOf(DataIntegrityViolationException.class, exception.getCause());
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraintName));
+    }
+
+    @Test
+    public void testCreateUser_HashingOverloaded() {
+        UserDTO userDTO = new UserDTO("John Doe", "123456789", "password", "test@example.com");
+        when(passwordHasher.encode("password"))
+            .thenThrow(new ServiceOverloadedException("Muitas requisições de autenticação. Tente novamente em instantes.", Duration.ofSeconds(1)));
+
+        assertThrows(ServiceOverloadedException.class, () -> userService.createUser(userDTO));
+        verify(userRepository, never()).save(any(UserEntity.class));
     }
 
     @Test
@@ -107,9 +173,10 @@ class UserServiceTests {
         user.setPassword(BcryptUtils.encryptPassword(password));
         user.setEmail("test@example.com");
 
-        when(userRepository.findByEmail(email)).thenReturn(user);
+        when(userCredentialCache.findByEmail(email)).thenReturn(user);
+        when(passwordHasher.matches(password, user.getPassword())).thenReturn(CompletableFuture.completedFuture(true));
 
-        assertDoesNotThrow(() -> userService.authenticate(email, password));
+        assertDoesNotThrow(() -> userService.authenticate(email, password).join());
     }
 
     @Test
@@ -123,9 +190,28 @@ class UserServiceTests {
         user.setPassword(BcryptUtils.encryptPassword("different_password"));
         user.setEmail("test@example.com");
 
-        when(userRepository.findByEmail(email)).thenReturn(user);
+        when(userCredentialCache.findByEmail(email)).thenReturn(user);
+        when(passwordHasher.matches(password, user.getPassword())).thenReturn(CompletableFuture.completedFuture(false));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> userService.authenticate(email, password).join());
+        assertInstanceOf(AuthenticationException.class, exception.getCause());
+    }
+
+    @Test
+    public void testLogin_LooksUpUserOnce() {
+        UserEntity user = new UserEntity(1L, "John Doe", "test@example.com", "123456789", "hashed");
+        UserResponseDTO expectedResponseDTO = new UserResponseDTO(1L, "John Doe", "123456789", "test@example.com");
+
+        when(userCredentialCache.findByEmail("test@example.com")).thenReturn(user);
+        when(passwordHasher.matches("password", "hashed")).thenReturn(CompletableFuture.completedFuture(true));
+        when(userMapper.toResponseDTO(user)).thenReturn(expectedResponseDTO);
+
+        UserResponseDTO result = userService.login(new UserLoginRequest("test@example.com", "password")).join();
 
-        assertThrows(AuthenticationException.class, () -> userService.authenticate(email, password));
+        assertEquals(expectedResponseDTO, result);
+        verify(userCredentialCache, times(1)).findByEmail("test@example.com");
+        verify(userMapper, times(1)).toResponseDTO(user);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -134,7 +220,7 @@ class UserServiceTests {
         UserEntity user = new UserEntity(1L, "John Doe", "123456789", "password", "test@example.com");
         UserResponseDTO expectedResponseDTO = new UserResponseDTO(1L, "John Doe", "123456789", "test@example.com");
 
-        when(userRepository.findByEmail(email)).thenReturn(user);
+        when(userCredentialCache.findByEmail(email)).thenReturn(user);
         when(userMapper.toResponseDTO(user)).thenReturn(expectedResponseDTO);
 
         UserResponseDTO foundUser = userService.findUser(email);
@@ -147,7 +233,7 @@ class UserServiceTests {
     public void testFindUser_NotFound() {
         String email = "nonexistent@example.com";
 
-        when(userRepository.findByEmail(email)).thenReturn(null);
+        when(userCredentialCache.findByEmail(email)).thenReturn(null);
 
         UserResponseDTO foundUser = userService.findUser(email);
 
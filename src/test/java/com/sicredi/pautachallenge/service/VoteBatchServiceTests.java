@@ -0,0 +1,171 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sicredi.pautachallenge.config.VoteBatchProperties;
+import com.sicredi.pautachallenge.domain.dto.VoteBatchResult;
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.model.VoteOutcome;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.exception.SectionExpiredException;
+import com.sicredi.pautachallenge.exception.SectionNotFoundException;
+import com.sicredi.pautachallenge.service.VotesService.RejectionReason;
+
+@ExtendWith(MockitoExtension.class)
+class VoteBatchServiceTests {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @Mock
+    private VotesService votesService;
+
+    @Mock
+    private VoteBatchWriter voteBatchWriter;
+
+    private VoteBatchService voteBatchService;
+
+    @BeforeAll
+    public static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    public static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        voteBatchService = new VoteBatchService(votesService, voteBatchWriter, validator, new VoteBatchProperties(10));
+    }
+
+    @Test
+    public void testCreateVotes_ReportsOutcomePerVote() {
+        doNothing().when(votesService).validateSection(1L);
+        doThrow(new SectionExpiredException()).when(votesService).validateSection(2L);
+        doThrow(new SectionNotFoundException()).when(votesService).validateSection(3L);
+        when(votesService.checkEligibility(Set.of(1L))).thenReturn(Map.of(1L, true));
+        when(voteBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<Votes> votes = invocation.getArgument(0);
+            votes.get(0).setId(10L);
+            return new boolean[] { true };
+        });
+
+        List<VoteDTO> voteDTOs = new ArrayList<>();
+        voteDTOs.add(new VoteDTO(1L, 1L, true));
+        voteDTOs.add(new VoteDTO(2L, 1L, true));
+        voteDTOs.add(new VoteDTO(3L, 1L, true));
+        voteDTOs.add(new VoteDTO(null, 1L, true));
+        voteDTOs.add(null);
+        voteDTOs.add(new VoteDTO(1L, 1L, false));
+
+        List<VoteBatchResult> results = voteBatchService.createVotes(voteDTOs);
+
+        assertEquals(6, results.size());
+        assertEquals(new VoteBatchResult(0, 1L, 1L, VoteOutcome.CREATED, 10L), results.get(0));
+        assertEquals(VoteOutcome.EXPIRED_SECTION, results.get(1).outcome());
+        assertEquals(VoteOutcome.SECTION_NOT_FOUND, results.get(2).outcome());
+        assertEquals(VoteOutcome.INVALID, results.get(3).outcome());
+        assertEquals(VoteOutcome.INVALID, results.get(4).outcome());
+        assertEquals(VoteOutcome.DUPLICATE, results.get(5).outcome());
+        verify(votesService).recordProcessed(VoteStatus.ABLE_TO_VOTE);
+        verify(votesService).recordRejected(RejectionReason.EXPIRED);
+        verify(votesService).recordRejected(RejectionReason.SECTION_NOT_FOUND);
+        verify(votesService, times(2)).recordRejected(RejectionReason.INVALID);
+        verify(votesService).recordRejected(RejectionReason.DUPLICATE);
+    }
+
+    @Test
+    public void testCreateVotes_ValidatesEachSectionOnce() {
+        when(votesService.checkEligibility(Set.of(1L, 2L, 3L))).thenReturn(Map.of(1L, true, 2L, true, 3L, true));
+        when(voteBatchWriter.write(anyList())).thenReturn(new boolean[] { true, true, false });
+
+        List<VoteBatchResult> results = voteBatchService.createVotes(List.of(
+                new VoteDTO(1L, 1L, true), new VoteDTO(1L, 2L, true), new VoteDTO(1L, 3L, false)));
+
+        verify(votesService, times(1)).validateSection(1L);
+        assertEquals(VoteOutcome.DUPLICATE, results.get(2).outcome());
+        assertNull(results.get(2).voteId());
+    }
+
+    @Test
+    public void testCreateVotes_UnableToVote() {
+        when(votesService.checkEligibility(Set.of(1L))).thenReturn(Map.of(1L, false));
+        when(voteBatchWriter.write(anyList())).thenReturn(new boolean[0]);
+
+        List<VoteBatchResult> results = voteBatchService.createVotes(List.of(new VoteDTO(1L, 1L, true)));
+
+        assertEquals(VoteOutcome.UNABLE_TO_VOTE, results.get(0).outcome());
+        verify(voteBatchWriter).write(Collections.emptyList());
+        verify(votesService).recordProcessed(VoteStatus.UNABLE_TO_VOTE);
+    }
+
+    @Test
+    public void testCreateVotes_ChecksEachEligibleUserOnce() {
+        doNothing().when(votesService).validateSection(1L);
+        doNothing().when(votesService).validateSection(2L);
+        doThrow(new SectionNotFoundException()).when(votesService).validateSection(3L);
+        when(votesService.checkEligibility(Set.of(1L, 2L))).thenReturn(Map.of(1L, true, 2L, false));
+        when(voteBatchWriter.write(anyList())).thenReturn(new boolean[] { true, true });
+
+        List<VoteBatchResult> results = voteBatchService.createVotes(List.of(
+                new VoteDTO(1L, 1L, true), new VoteDTO(2L, 1L, true), new VoteDTO(1L, 2L, true),
+                new VoteDTO(2L, 2L, false), new VoteDTO(3L, 4L, true)));
+
+        verify(votesService, times(1)).checkEligibility(anySet());
+        assertEquals(VoteOutcome.CREATED, results.get(0).outcome());
+        assertEquals(VoteOutcome.CREATED, results.get(1).outcome());
+        assertEquals(VoteOutcome.UNABLE_TO_VOTE, results.get(2).outcome());
+        assertEquals(VoteOutcome.UNABLE_TO_VOTE, results.get(3).outcome());
+        assertEquals(VoteOutcome.SECTION_NOT_FOUND, results.get(4).outcome());
+    }
+
+    @Test
+    public void testCreateVotes_SkipsEligibilityWhenNoVoteReachesIt() {
+        doThrow(new SectionExpiredException()).when(votesService).validateSection(1L);
+        when(voteBatchWriter.write(anyList())).thenReturn(new boolean[0]);
+
+        List<VoteBatchResult> results = voteBatchService.createVotes(List.of(new VoteDTO(1L, 1L, true)));
+
+        assertEquals(VoteOutcome.EXPIRED_SECTION, results.get(0).outcome());
+        verify(votesService, never()).checkEligibility(anySet());
+    }
+
+    @Test
+    public void testCreateVotes_RejectsEmptyBatch() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> voteBatchService.createVotes(List.of()));
+        assertEquals("O lote deve conter entre 1 e 10 votos", exception.getMessage());
+        verifyNoInteractions(votesService, voteBatchWriter);
+    }
+
+    @Test
+    public void testCreateVotes_RejectsOversizedBatch() {
+        List<VoteDTO> voteDTOs = Collections.nCopies(11, new VoteDTO(1L, 1L, true));
+
+        assertThrows(IllegalArgumentException.class, () -> voteBatchService.createVotes(voteDTOs));
+        verifyNoInteractions(votesService, voteBatchWriter);
+    }
+}
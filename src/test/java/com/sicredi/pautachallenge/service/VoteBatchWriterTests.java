@@ -0,0 +1,102 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.domain.model.Votes;
+import com.sicredi.pautachallenge.repository.VotesRepository;
+
+@ExtendWith(MockitoExtension.class)
+class VoteBatchWriterTests {
+
+    @Mock
+    private VotesRepository votesRepository;
+
+    @Mock
+    private VoteTallyService voteTallyService;
+
+    @Mock
+    private VoterIndex voterIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VoteBatchWriter voteBatchWriter;
+
+    @BeforeEach
+    public void setUp() {
+        voteBatchWriter = new VoteBatchWriter(votesRepository, voteTallyService, voterIndex,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    public void testWrite_EmptyList() {
+        assertEquals(0, voteBatchWriter.write(List.of()).length);
+        verifyNoInteractions(votesRepository, voteTallyService, voterIndex);
+    }
+
+    @Test
+    public void testWrite_SkipsIndexedAndRepeatedVotes() {
+        when(voterIndex.hasVoted(eq(1L), anyLong())).thenAnswer(invocation -> invocation.<Long>getArgument(1) == 2L);
+
+        boolean[] inserted = voteBatchWriter.write(List.of(vote(1L, 1L, true), vote(1L, 2L, false), vote(1L, 1L, false)));
+
+        assertArrayEquals(new boolean[] { true, false, false }, inserted);
+        verify(votesRepository).insertBatch(argThat(votes -> votes.size() == 1 && votes.get(0).getUserId() == 1L));
+        verify(voteTallyService).recordVote(1L, true);
+        verify(voterIndex).recordVote(1L, 1L);
+        verifyNoMoreInteractions(voteTallyService);
+    }
+
+    @Test
+    public void testWrite_SameUserInDifferentSections() {
+        voteBatchWriter.write(List.of(vote(1L, 1L, true), vote(2L, 1L, true), vote(1L, 2L, true)));
+
+        verify(votesRepository).insertBatch(argThat(votes -> votes.size() == 3));
+        verify(voterIndex).recordVote(2L, 1L);
+    }
+
+    @Test
+    public void testWrite_ConstraintConflictFallsBackToSingleInserts() {
+        doThrow(new DataIntegrityViolationException("uk_votes_section_user")).when(votesRepository).insertBatch(anyList());
+        when(votesRepository.insertIfAbsent(any(Votes.class))).thenAnswer(invocation -> invocation.<Votes>getArgument(0).getUserId() == 1L);
+
+        boolean[] inserted = voteBatchWriter.write(List.of(vote(1L, 1L, true), vote(1L, 2L, false)));
+
+        assertArrayEquals(new boolean[] { true, false }, inserted);
+        verify(votesRepository, times(2)).insertIfAbsent(argThat(votes -> votes.getId() == null));
+        verify(voteTallyService).recordVote(1L, true);
+        verifyNoMoreInteractions(voteTallyService);
+    }
+
+    @Test
+    public void testWrite_UnexpectedFailureIsPropagated() {
+        doThrow(new RuntimeException("falha")).when(votesRepository).insertBatch(anyList());
+
+        assertThrows(RuntimeException.class, () -> voteBatchWriter.write(List.of(vote(1L, 1L, true))));
+        verifyNoInteractions(voteTallyService);
+        verify(voterIndex, never()).recordVote(anyLong(), anyLong());
+    }
+
+    private Votes vote(Long sectionId, Long userId, boolean value) {
+        Votes votes = new Votes();
+        votes.setSectionId(sectionId);
+        votes.setUserId(userId);
+        votes.setVote(value);
+        votes.setStatus(VoteStatus.ABLE_TO_VOTE);
+        return votes;
+    }
+}
@@ -0,0 +1,160 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sicredi.pautachallenge.config.VoteIngestionProperties;
+import com.sicredi.pautachallenge.domain.dto.VoteDTO;
+import com.sicredi.pautachallenge.domain.dto.VoteReceipt;
+import com.sicredi.pautachallenge.domain.model.VoteReceiptStatus;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
+import com.sicredi.pautachallenge.service.VotesService.RejectionReason;
+
+@ExtendWith(MockitoExtension.class)
+class VoteIngestionServiceTests {
+
+    @Mock
+    private VotesService votesService;
+
+    @Mock
+    private VoteBatchWriter voteBatchWriter;
+
+    @Mock
+    private VoterIndex voterIndex;
+
+    private VoteIngestionService voteIngestionService;
+
+    @BeforeEach
+    public void setUp() {
+        VoteIngestionProperties properties = new VoteIngestionProperties(true, 10, Duration.ofMillis(5), 2, Duration.ofMinutes(1));
+        voteIngestionService = new VoteIngestionService(properties, votesService, voteBatchWriter, voterIndex);
+    }
+
+    @Test
+    public void testSubmit_ReturnsPendingReceipt() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+
+        VoteReceipt receipt = voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+
+        assertEquals(VoteReceiptStatus.PENDING, receipt.status());
+        assertEquals(receipt, voteIngestionService.getReceipt(receipt.id()).orElseThrow());
+        assertEquals(1, voteIngestionService.getQueueSize());
+    }
+
+    @Test
+    public void testSubmit_UnableToVote() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(false);
+
+        VoteReceipt receipt = voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+
+        assertEquals(VoteReceiptStatus.UNABLE_TO_VOTE, receipt.status());
+        assertEquals(0, voteIngestionService.getQueueSize());
+        verify(votesService).recordProcessed(VoteStatus.UNABLE_TO_VOTE);
+    }
+
+    @Test
+    public void testSubmit_InFlightDuplicate() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+        voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> voteIngestionService.submit(new VoteDTO(1L, 1L, false)));
+        assertEquals("Esse usuário já votou nesta seção.", exception.getMessage());
+        verify(votesService).recordRejected(RejectionReason.DUPLICATE);
+    }
+
+    @Test
+    public void testSubmit_IndexedVoterIsRejected() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+        when(voterIndex.hasVoted(1L, 1L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> voteIngestionService.submit(new VoteDTO(1L, 1L, true)));
+        assertEquals(0, voteIngestionService.getQueueSize());
+    }
+
+    @Test
+    public void testSubmit_QueueFull() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+        voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+        voteIngestionService.submit(new VoteDTO(1L, 2L, true));
+
+        assertThrows(ServiceOverloadedException.class,
+                () -> voteIngestionService.submit(new VoteDTO(1L, 3L, true)));
+        verify(votesService).recordRejected(RejectionReason.QUEUE_FULL);
+    }
+
+    @Test
+    public void testWriteBatch_CreatesNewVotesAndFlagsDuplicates() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+        VoteReceipt first = voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+        VoteReceipt second = voteIngestionService.submit(new VoteDTO(1L, 2L, false));
+        when(voteBatchWriter.write(anyList())).thenReturn(new boolean[] { true, false });
+
+        voteIngestionService.writeBatch(List.of(
+                new VoteIngestionService.PendingVote(first, true),
+                new VoteIngestionService.PendingVote(second, false)));
+
+        assertEquals(VoteReceiptStatus.CREATED, voteIngestionService.getReceipt(first.id()).orElseThrow().status());
+        assertEquals(VoteReceiptStatus.DUPLICATE, voteIngestionService.getReceipt(second.id()).orElseThrow().status());
+        verify(voteBatchWriter).write(argThat(votes -> votes.size() == 2 && votes.get(0).getUserId() == 1L));
+        verify(votesService).recordProcessed(VoteStatus.ABLE_TO_VOTE);
+        verify(votesService).recordRejected(RejectionReason.DUPLICATE);
+    }
+
+    @Test
+    public void testWriteBatch_FailureMarksReceiptsAsFailed() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+        VoteReceipt receipt = voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+        when(voteBatchWriter.write(anyList())).thenThrow(new RuntimeException("falha"));
+
+        voteIngestionService.writeBatch(List.of(new VoteIngestionService.PendingVote(receipt, true)));
+
+        assertEquals(VoteReceiptStatus.FAILED, voteIngestionService.getReceipt(receipt.id()).orElseThrow().status());
+        verify(votesService).recordRejected(RejectionReason.FAILED);
+    }
+
+    @Test
+    public void testWriteBatch_ReleasesInFlightVotes() {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+        VoteReceipt receipt = voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+        when(voteBatchWriter.write(anyList())).thenReturn(new boolean[] { true });
+
+        voteIngestionService.writeBatch(List.of(new VoteIngestionService.PendingVote(receipt, true)));
+
+        assertEquals(VoteReceiptStatus.PENDING, voteIngestionService.submit(new VoteDTO(1L, 1L, true)).status());
+    }
+
+    @Test
+    public void testSubmit_RejectedAfterStop() throws InterruptedException {
+        voteIngestionService.stop();
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> voteIngestionService.submit(new VoteDTO(1L, 1L, true)));
+        assertEquals(VoteIngestionService.SHUTTING_DOWN_MESSAGE, exception.getMessage());
+        verify(votesService).recordRejected(RejectionReason.SHUTTING_DOWN);
+        verifyNoMoreInteractions(votesService);
+    }
+
+    @Test
+    public void testStop_FailsQueuedVotes() throws InterruptedException {
+        when(votesService.checkEligibility(any(VoteDTO.class))).thenReturn(true);
+        VoteReceipt receipt = voteIngestionService.submit(new VoteDTO(1L, 1L, true));
+
+        voteIngestionService.stop();
+
+        assertEquals(VoteReceiptStatus.FAILED, voteIngestionService.getReceipt(receipt.id()).orElseThrow().status());
+        assertEquals(0, voteIngestionService.getQueueSize());
+        verifyNoInteractions(voteBatchWriter);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.sicredi.pautachallenge.config.VoteLogSummaryProperties;
+
+class VoteLogSummaryTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VoteLogSummary summary = new VoteLogSummary(new VoteLogSummaryProperties(true, Duration.ofMinutes(1)), meterRegistry);
+    private final Logger logger = (Logger) LoggerFactory.getLogger(VoteLogSummary.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void reportsDifferenceSinceLastSummary() {
+        meterRegistry.counter("pauta.votes.processed", "status", "ABLE_TO_VOTE").increment(5);
+        meterRegistry.counter("pauta.votes.rejected", "reason", "duplicate").increment(2);
+        summary.report();
+
+        meterRegistry.counter("pauta.votes.processed", "status", "ABLE_TO_VOTE").increment(3);
+        meterRegistry.counter("pauta.votes.processed", "status", "UNABLE_TO_VOTE").increment(1);
+        summary.report();
+
+        List<String> lines = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals(2, lines.size());
+        assertEquals("Votos nos últimos PT1M: registrados 5, sem elegibilidade 0, recusados 2 {duplicate=2}", lines.get(0));
+        assertEquals("Votos nos últimos PT1M: registrados 3, sem elegibilidade 1, recusados 0 {}", lines.get(1));
+    }
+
+    @Test
+    void skipsIntervalsWithoutVotes() {
+        meterRegistry.counter("pauta.votes.processed", "status", "ABLE_TO_VOTE");
+
+        summary.report();
+
+        assertTrue(appender.list.isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sicredi.pautachallenge.config.VoteTallyProperties;
+import com.sicredi.pautachallenge.domain.dto.TallyConsistencyReport;
+import com.sicredi.pautachallenge.domain.interfaces.SectionTallyTotals;
+import com.sicredi.pautachallenge.domain.interfaces.SectionVoteCount;
+import com.sicredi.pautachallenge.domain.model.SectionTallyCounter;
+import com.sicredi.pautachallenge.repository.SectionTallyRepository;
+import com.sicredi.pautachallenge.repository.VotesRepository;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTallyServiceTests {
+
+    @Mock
+    private VotesRepository votesRepository;
+
+    @Mock
+    private SectionTallyRepository sectionTallyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VoteTallyService voteTallyService;
+
+    @BeforeEach
+    public void setUp() {
+        voteTallyService = new VoteTallyService(votesRepository, sectionTallyRepository, new TransactionTemplate(transactionManager),
+                new VoteTallyProperties(false), meterRegistry);
+    }
+
+    private SectionVoteCount count(Long sectionId, Boolean vote, Long total) {
+        return new SectionVoteCount() {
+            public Long getSectionId() { return sectionId; }
+            public Boolean getVote() { return vote; }
+            public Long getTotal() { return total; }
+        };
+    }
+
+    private SectionTallyTotals totals(Long sectionId, Long votesTrue, Long votesFalse) {
+        return new SectionTallyTotals() {
+            public Long getSectionId() { return sectionId; }
+            public Long getVotesTrue() { return votesTrue; }
+            public Long getVotesFalse() { return votesFalse; }
+        };
+    }
+
+    @Test
+    public void testRebuildFromSectionTally() {
+        when(sectionTallyRepository.sumBySection())
+            .thenReturn(List.of(totals(1L, 3L, 2L), totals(2L, 0L, 4L)));
+
+        voteTallyService.afterSingletonsInstantiated();
+
+        assertEquals(3, voteTallyService.getTally(1L).getVotesTrue());
+        assertEquals(2, voteTallyService.getTally(1L).getVotesFalse());
+        assertEquals(5, voteTallyService.getTally(1L).getTotalVotes());
+        assertEquals(4, voteTallyService.getTally(2L).getTotalVotes());
+        assertEquals(0, voteTallyService.getTally(3L).getTotalVotes());
+    }
+
+    @Test
+    public void testRecordVoteConcurrently() {
+        IntStream.range(0, 1000).parallel()
+            .forEach(i -> voteTallyService.recordVote(1L, i % 2 == 0));
+
+        assertEquals(500, voteTallyService.getTally(1L).getVotesTrue());
+        assertEquals(500, voteTallyService.getTally(1L).getVotesFalse());
+    }
+
+    @Test
+    public void testCheckConsistency() {
+        voteTallyService.afterSingletonsInstantiated();
+        voteTallyService.recordVote(1L, true);
+        voteTallyService.recordVote(2L, false);
+        when(votesRepository.countVotesBySectionAndVote())
+            .thenReturn(List.of(count(1L, true, 1L), count(2L, false, 2L)));
+
+        TallyConsistencyReport report = voteTallyService.checkConsistency();
+
+        assertFalse(report.consistent());
+        assertEquals(2, report.checkedSections());
+        assertEquals(1, report.mismatches().size());
+        assertEquals(2L, report.mismatches().get(0).sectionId());
+        assertEquals(2L, report.mismatches().get(0).databaseVotesFalse());
+        assertEquals(1.0, meterRegistry.get("pauta.votes.tally.mismatches").gauge().value());
+        assertEquals(2.0, meterRegistry.get("pauta.votes.tally.sections").gauge().value());
+    }
+
+    @Test
+    public void testStartupGeneratesMissingSectionTally() {
+        when(sectionTallyRepository.count()).thenReturn(0L);
+        when(votesRepository.count()).thenReturn(3L);
+        when(sectionTallyRepository.insertFromVotes(SectionTallyCounter.STRIPES)).thenReturn(2);
+        when(sectionTallyRepository.sumBySection()).thenReturn(List.of(totals(1L, 2L, 1L)));
+        when(votesRepository.countVotesBySectionAndVote())
+            .thenReturn(List.of(count(1L, true, 2L), count(1L, false, 1L)));
+
+        voteTallyService.afterSingletonsInstantiated();
+
+        verify(sectionTallyRepository).deleteAllInBatch();
+        assertEquals(3, voteTallyService.getTally(1L).getTotalVotes());
+    }
+
+    @Test
+    public void testStartupRebuildsSectionTallyWhenRequested() {
+        voteTallyService = new VoteTallyService(votesRepository, sectionTallyRepository, new TransactionTemplate(transactionManager),
+                new VoteTallyProperties(true), meterRegistry);
+        when(sectionTallyRepository.insertFromVotes(SectionTallyCounter.STRIPES)).thenReturn(1);
+        when(sectionTallyRepository.sumBySection()).thenReturn(List.of(totals(1L, 1L, 1L)));
+        when(votesRepository.countVotesBySectionAndVote())
+            .thenReturn(List.of(count(1L, true, 1L), count(1L, false, 1L)));
+
+        voteTallyService.afterSingletonsInstantiated();
+
+        verify(sectionTallyRepository).deleteAllInBatch();
+        verify(sectionTallyRepository, never()).count();
+        assertEquals(2, voteTallyService.getTally(1L).getTotalVotes());
+    }
+
+    @Test
+    public void testRebuildFromVotesReportsConsistency() {
+        when(sectionTallyRepository.insertFromVotes(SectionTallyCounter.STRIPES)).thenReturn(1);
+        when(sectionTallyRepository.sumBySection()).thenReturn(List.of(totals(1L, 1L, 0L)));
+        when(votesRepository.countVotesBySectionAndVote()).thenReturn(List.of(count(1L, true, 1L)));
+
+        TallyConsistencyReport report = voteTallyService.rebuildFromVotes();
+
+        assertTrue(report.consistent());
+        assertEquals(1, report.checkedSections());
+    }
+}
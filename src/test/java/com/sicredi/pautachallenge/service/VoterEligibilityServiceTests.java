@@ -0,0 +1,182 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.sicredi.pautachallenge.config.EligibilityProperties;
+import com.sicredi.pautachallenge.domain.model.VoteStatus;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
+import com.sicredi.pautachallenge.infra.eligibility.EligibilityClient;
+import com.sicredi.pautachallenge.infra.eligibility.EligibilityClientException;
+import com.sicredi.pautachallenge.infra.eligibility.StubEligibilityClient;
+import com.sicredi.pautachallenge.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class VoterEligibilityServiceTests {
+
+    private static final String CPF = "12345678909";
+
+    @Mock
+    private EligibilityClient eligibilityClient;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private static EligibilityProperties properties(int maxSize, List<String> unableCpfs) {
+        return new EligibilityProperties("stub", null, Duration.ofMillis(500), Duration.ofSeconds(1),
+                Duration.ofMinutes(10), maxSize, 2, Duration.ofSeconds(30), 2, 16, unableCpfs);
+    }
+
+    private VoterEligibilityService service(EligibilityClient client) {
+        return new VoterEligibilityService(client, userRepository, properties(10, List.of()), meterRegistry, nanos::get);
+    }
+
+    @Test
+    void decisionIsCachedPerUser() {
+        VoterEligibilityService service = service(eligibilityClient);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(eligibilityClient.check(CPF)).thenReturn(VoteStatus.ABLE_TO_VOTE);
+
+        assertTrue(service.isEligible(1L));
+        assertTrue(service.isEligible(1L));
+
+        verify(eligibilityClient, times(1)).check(CPF);
+        verify(userRepository, times(1)).findCpfById(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", VoterEligibilityService.CACHE_NAME).tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void expiredDecisionIsCheckedAgain() {
+        VoterEligibilityService service = service(eligibilityClient);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(eligibilityClient.check(CPF)).thenReturn(VoteStatus.ABLE_TO_VOTE, VoteStatus.UNABLE_TO_VOTE);
+
+        assertTrue(service.isEligible(1L));
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        assertFalse(service.isEligible(1L));
+
+        verify(eligibilityClient, times(2)).check(CPF);
+    }
+
+    @Test
+    void unknownUserIsNotEligible() {
+        VoterEligibilityService service = service(eligibilityClient);
+        when(userRepository.findCpfById(99L)).thenReturn(Optional.empty());
+
+        assertFalse(service.isEligible(99L));
+
+        verifyNoInteractions(eligibilityClient);
+    }
+
+    @Test
+    void clientErrorDoesNotOpenCircuit() {
+        VoterEligibilityService service = service(eligibilityClient);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(eligibilityClient.check(CPF)).thenThrow(new EligibilityClientException(400, null));
+
+        assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+        assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+        assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+
+        assertEquals(CircuitBreaker.State.CLOSED, service.getCircuitState());
+        verify(eligibilityClient, times(3)).check(CPF);
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    void clientFailureIsNotCachedAndOpensCircuit() {
+        VoterEligibilityService service = service(eligibilityClient);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(eligibilityClient.check(CPF)).thenThrow(new ResourceAccessException("Read timed out"));
+
+        assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+        assertEquals(CircuitBreaker.State.CLOSED, service.getCircuitState());
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+        assertEquals(CircuitBreaker.State.OPEN, service.getCircuitState());
+        assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+
+        assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+        verify(eligibilityClient, times(2)).check(CPF);
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    void halfOpenProbeClosesCircuitOnSuccess() {
+        VoterEligibilityService service = service(eligibilityClient);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(eligibilityClient.check(CPF))
+            .thenThrow(new ResourceAccessException("Connect timed out"))
+            .thenThrow(new ResourceAccessException("Connect timed out"))
+            .thenReturn(VoteStatus.ABLE_TO_VOTE);
+
+        assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+        assertThrows(ServiceOverloadedException.class, () -> service.isEligible(1L));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        assertTrue(service.isEligible(1L));
+        assertEquals(CircuitBreaker.State.CLOSED, service.getCircuitState());
+    }
+
+    @Test
+    void stubClientRejectsConfiguredCpfs() {
+        StubEligibilityClient stub = new StubEligibilityClient(properties(10, List.of("11144477735")));
+        VoterEligibilityService service = service(stub);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(userRepository.findCpfById(2L)).thenReturn(Optional.of("11144477735"));
+
+        assertTrue(service.isEligible(1L));
+        assertFalse(service.isEligible(2L));
+    }
+
+    @Test
+    void checkAsyncAnswersCachedDecisionWithoutPool() {
+        VoterEligibilityService service = service(eligibilityClient);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(eligibilityClient.check(CPF)).thenReturn(VoteStatus.ABLE_TO_VOTE);
+        service.isEligible(1L);
+
+        CompletableFuture<Boolean> check = service.checkAsync(1L);
+
+        assertTrue(check.isDone());
+        assertTrue(check.join());
+        verify(eligibilityClient, times(1)).check(CPF);
+    }
+
+    @Test
+    void concurrentChecksForSameUserShareOneCall() throws Exception {
+        VoterEligibilityService service = service(eligibilityClient);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findCpfById(1L)).thenReturn(Optional.of(CPF));
+        when(eligibilityClient.check(CPF)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return VoteStatus.UNABLE_TO_VOTE;
+        });
+
+        CompletableFuture<Boolean> first = service.checkAsync(1L);
+        CompletableFuture<Boolean> second = service.checkAsync(1L);
+        release.countDown();
+
+        assertSame(first, second);
+        assertFalse(first.get(5, TimeUnit.SECONDS));
+        verify(eligibilityClient, times(1)).check(CPF);
+        service.stop();
+    }
+}
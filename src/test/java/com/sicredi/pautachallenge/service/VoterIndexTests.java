@@ -0,0 +1,96 @@
+package com.sicredi.pautachallenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sicredi.pautachallenge.repository.VotesRepository;
+import com.sicredi.pautachallenge.repository.VotesRepositoryCustom.VoterCallback;
+
+@ExtendWith(MockitoExtension.class)
+class VoterIndexTests {
+
+    @Mock
+    private VotesRepository votesRepository;
+
+    private MeterRegistry meterRegistry;
+    private VoterIndex voterIndex;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        voterIndex = new VoterIndex(votesRepository, meterRegistry);
+    }
+
+    @Test
+    public void testLoadFromDatabase() {
+        doAnswer(invocation -> {
+            VoterCallback callback = invocation.getArgument(0);
+            callback.accept(1L, 10L);
+            callback.accept(1L, 11L);
+            callback.accept(2L, 10L);
+            return null;
+        }).when(votesRepository).forEachVoter(any(VoterCallback.class));
+
+        voterIndex.afterSingletonsInstantiated();
+
+        assertTrue(voterIndex.hasVoted(1L, 10L));
+        assertTrue(voterIndex.hasVoted(1L, 11L));
+        assertTrue(voterIndex.hasVoted(2L, 10L));
+        assertFalse(voterIndex.hasVoted(2L, 11L));
+        assertFalse(voterIndex.hasVoted(3L, 10L));
+        assertEquals(3, voterIndex.getVoterCount());
+    }
+
+    @Test
+    public void testLoadKeepsVotesRecordedWhileReading() {
+        doAnswer(invocation -> {
+            VoterCallback callback = invocation.getArgument(0);
+            callback.accept(1L, 10L);
+            voterIndex.recordVote(1L, 11L);
+            callback.accept(2L, 10L);
+            return null;
+        }).when(votesRepository).forEachVoter(any(VoterCallback.class));
+
+        voterIndex.afterSingletonsInstantiated();
+
+        assertTrue(voterIndex.hasVoted(1L, 10L));
+        assertTrue(voterIndex.hasVoted(1L, 11L));
+        assertTrue(voterIndex.hasVoted(2L, 10L));
+        assertEquals(3, voterIndex.getVoterCount());
+    }
+
+    @Test
+    public void testRecordVote() {
+        voterIndex.afterSingletonsInstantiated();
+        assertFalse(voterIndex.hasVoted(1L, 1L));
+
+        voterIndex.recordVote(1L, 1L);
+
+        assertTrue(voterIndex.hasVoted(1L, 1L));
+        assertFalse(voterIndex.hasVoted(1L, 2L));
+        assertEquals(1.0, meterRegistry.get("pauta.voters.index.size").gauge().value());
+    }
+
+    @Test
+    public void testMemoryStaysCompactForMillionVoters() {
+        voterIndex.afterSingletonsInstantiated();
+        for (long userId = 1; userId <= 1_000_000; userId++) {
+            voterIndex.recordVote(1L, userId);
+        }
+
+        assertEquals(1_000_000, voterIndex.getVoterCount());
+        assertTrue(voterIndex.hasVoted(1L, 500_000L));
+        // Um HashSet<Long> com um milhão de ids passa de 40 MB; o bitmap fica abaixo de 2 bytes por votante
+        assertTrue(voterIndex.getMemoryBytes() < 2_000_000, "Memória do índice: " + voterIndex.getMemoryBytes());
+        assertEquals(voterIndex.getMemoryBytes(), meterRegistry.get("pauta.voters.index.memory").gauge().value());
+    }
+}
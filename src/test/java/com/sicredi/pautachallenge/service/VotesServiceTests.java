@@ -4,22 +4,31 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.sicredi.pautachallenge.config.VoteCheckProperties;
 import com.sicredi.pautachallenge.domain.dto.VoteDTO;
 import com.sicredi.pautachallenge.domain.model.Section;
 import com.sicredi.pautachallenge.domain.model.VoteStatus;
 import com.sicredi.pautachallenge.domain.model.Votes;
-import com.sicredi.pautachallenge.repository.SectionRepository;
+import com.sicredi.pautachallenge.exception.SectionExpiredException;
+import com.sicredi.pautachallenge.exception.SectionNotFoundException;
+import com.sicredi.pautachallenge.exception.SectionNotOpenException;
+import com.sicredi.pautachallenge.exception.ServiceOverloadedException;
 import com.sicredi.pautachallenge.repository.VotesRepository;
+import com.sicredi.pautachallenge.service.VotesService.RejectionReason;
 
 import java.time.LocalDateTime;
 
@@ -30,13 +39,29 @@ class VotesServiceTests {
     private VotesRepository votesRepository;
 
     @Mock
-    private SectionRepository sectionRepository;
+    private SectionLifecycleRegistry sectionLifecycleRegistry;
+
+    @Mock
+    private VoteTallyService voteTallyService;
+
+    @Mock
+    private VoterIndex voterIndex;
+
+    @Mock
+    private VoterEligibilityService voterEligibilityService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
-    @InjectMocks
     private VotesService votesService;
 
     @BeforeEach
     public void setUp() {
+        votesService = new VotesService(votesRepository, sectionLifecycleRegistry, voteTallyService, voterIndex,
+                voterEligibilityService, new VoteCheckProperties(Duration.ofMillis(200)), meterRegistry);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("pauta.votes.rejected").tag("reason", reason).counter().count();
     }
 
     @Test
@@ -57,32 +82,26 @@ class VotesServiceTests {
         savedVote.setVote(true);
         savedVote.setStatus(VoteStatus.ABLE_TO_VOTE);
 
-        when(sectionRepository.findById(1L)).thenReturn(Optional.of(section));
-        when(votesRepository.findByUserIdAndSectionId(anyLong(), anyLong())).thenReturn(Optional.empty());
-        when(votesRepository.save(any(Votes.class))).thenReturn(savedVote);
-
-        boolean success = false;
-        for (int i = 0; i < 50; i++) {
-            try {
-                Votes createdVote = votesService.createVote(voteDTO);
-                if (createdVote != null && createdVote.getStatus() == VoteStatus.ABLE_TO_VOTE) {
-                    assertNotNull(createdVote);
-                    assertEquals(savedVote.getId(), createdVote.getId());
-                    assertEquals(savedVote.getUserId(), createdVote.getUserId());
-                    assertEquals(savedVote.getSectionId(), createdVote.getSectionId());
-                    success = true;
-                    break;
-                }
-            } catch (IllegalArgumentException e) {
-                continue;
-            }
-        }
-
-        if (success) {
-            verify(votesRepository, atLeastOnce()).findByUserIdAndSectionId(anyLong(), anyLong());
-            verify(votesRepository, atLeastOnce()).save(any(Votes.class));
-        } else {
-            assertTrue(true, "Test completed - random CPF validation behavior is working");
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+        when(votesRepository.insertIfAbsent(any(Votes.class))).thenAnswer(invocation -> {
+            invocation.<Votes>getArgument(0).setId(savedVote.getId());
+            return true;
+        });
+
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(CompletableFuture.completedFuture(true));
+
+        Votes createdVote = votesService.createVote(voteDTO);
+
+        assertEquals(VoteStatus.ABLE_TO_VOTE, createdVote.getStatus());
+        assertEquals(savedVote.getId(), createdVote.getId());
+        assertEquals(savedVote.getUserId(), createdVote.getUserId());
+        assertEquals(savedVote.getSectionId(), createdVote.getSectionId());
+        verify(votesRepository).insertIfAbsent(any(Votes.class));
+        verify(votesRepository, never()).findByUserIdAndSectionId(anyLong(), anyLong());
+        verify(voteTallyService).recordVote(1L, true);
+        assertEquals(1.0, meterRegistry.get("pauta.votes.processed").tag("status", "ABLE_TO_VOTE").counter().count());
+        for (String stage : List.of("section", "eligibility", "duplicate", "insert")) {
+            assertEquals(1L, meterRegistry.get("pauta.votes.stage").tag("stage", stage).timer().count(), stage);
         }
     }
 
@@ -97,32 +116,139 @@ class VotesServiceTests {
         section.setStart_at(LocalDateTime.now());
         section.setExpiration(60); // 60 minutes
 
-        Votes existingVote = new Votes();
-        existingVote.setUserId(1L);
-        existingVote.setSectionId(1L);
-        existingVote.setVote(true);
-
-        when(sectionRepository.findById(1L)).thenReturn(Optional.of(section));
-        when(votesRepository.findByUserIdAndSectionId(anyLong(), anyLong())).thenReturn(Optional.of(existingVote));
-
-        // Como a validação de CPF é aleatória, vamos testar múltiplas vezes
-        boolean foundExpectedResult = false;
-        for (int i = 0; i < 20; i++) {
-            try {
-                Votes createdVote = votesService.createVote(voteDTO);
-                if (createdVote == null) {
-                    foundExpectedResult = true;
-                    break;
-                }
-            } catch (IllegalArgumentException e) {
-                if (e.getMessage().equals("Esse usuário já votou nesta seção.")) {
-                    foundExpectedResult = true;
-                    break;
-                }
-            }
-        }
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+        when(votesRepository.insertIfAbsent(any(Votes.class))).thenReturn(false);
+
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(CompletableFuture.completedFuture(true));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> votesService.createVote(voteDTO));
+
+        assertEquals("Esse usuário já votou nesta seção.", exception.getMessage());
+        verify(votesRepository).insertIfAbsent(any(Votes.class));
+        verifyNoInteractions(voteTallyService);
+        assertEquals(1.0, rejected("duplicate"));
+    }
+
+    @Test
+    public void testCreateVote_IneligibleVoter() {
+        Section section = new Section(1L, "Test Section", "Descrição", 60, LocalDateTime.now());
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(CompletableFuture.completedFuture(false));
+
+        Votes createdVote = votesService.createVote(new VoteDTO(1L, 1L, true));
+
+        assertEquals(VoteStatus.UNABLE_TO_VOTE, createdVote.getStatus());
+        assertNull(createdVote.getId());
+        verifyNoInteractions(votesRepository, voteTallyService);
+        assertEquals(1.0, meterRegistry.get("pauta.votes.processed").tag("status", "UNABLE_TO_VOTE").counter().count());
+    }
+
+    @Test
+    public void testValidateSection_NotFound() {
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.empty());
+
+        assertThrows(SectionNotFoundException.class, () -> votesService.validateSection(1L));
+    }
+
+    @Test
+    public void testValidateSection_Expired() {
+        Section section = new Section(1L, "Test Section", "Descrição", 10, LocalDateTime.now().minusMinutes(30));
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+
+        assertThrows(SectionExpiredException.class, () -> votesService.validateSection(1L));
+    }
+
+    @Test
+    public void testValidateSection_Scheduled() {
+        Section section = new Section(1L, "Test Section", "Descrição", 10, LocalDateTime.now().plusHours(1));
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+
+        assertThrows(SectionNotOpenException.class, () -> votesService.validateSection(1L));
+    }
+
+    @Test
+    public void testCreateVote_IndexedVoterSkipsDatabase() {
+        Section section = new Section(1L, "Test Section", "Descrição", 60, LocalDateTime.now());
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+        when(voterIndex.hasVoted(1L, 1L)).thenReturn(true);
+
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(CompletableFuture.completedFuture(true));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> votesService.createVote(new VoteDTO(1L, 1L, true)));
+
+        assertEquals("Esse usuário já votou nesta seção.", exception.getMessage());
+        verify(votesRepository, never()).insertIfAbsent(any(Votes.class));
+        verifyNoInteractions(voteTallyService);
+    }
+
+    @Test
+    public void testCreateVote_SectionRejectionDoesNotWaitForEligibility() {
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(new CompletableFuture<>());
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.empty());
+
+        assertThrows(SectionNotFoundException.class, () -> votesService.createVote(new VoteDTO(1L, 1L, true)));
+
+        verifyNoInteractions(votesRepository, voteTallyService);
+        assertEquals(1.0, rejected("section_not_found"));
+    }
+
+    @Test
+    public void testCreateVote_EligibilityPastDeadline() {
+        Section section = new Section(1L, "Test Section", "Descrição", 60, LocalDateTime.now());
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(new CompletableFuture<>());
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> votesService.createVote(new VoteDTO(1L, 1L, true)));
+
+        assertEquals(VotesService.CHECK_TIMEOUT_MESSAGE, exception.getMessage());
+        verifyNoInteractions(votesRepository, voteTallyService);
+        assertEquals(1.0, rejected("timeout"));
+    }
+
+    @Test
+    public void testCreateVote_EligibilityServiceUnavailable() {
+        Section section = new Section(1L, "Test Section", "Descrição", 60, LocalDateTime.now());
+        when(sectionLifecycleRegistry.find(1L)).thenReturn(Optional.of(SectionLifecycleRegistry.SectionLifecycle.of(section, LocalDateTime.now())));
+        ServiceOverloadedException unavailable = new ServiceOverloadedException("indisponível", Duration.ofSeconds(30));
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(CompletableFuture.failedFuture(unavailable));
+
+        assertSame(unavailable, assertThrows(ServiceOverloadedException.class,
+                () -> votesService.createVote(new VoteDTO(1L, 1L, true))));
+        verifyNoInteractions(votesRepository);
+        assertEquals(1.0, rejected("eligibility_unavailable"));
+    }
+
+    @Test
+    public void testCheckEligibility_ChecksAllUsers() {
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(CompletableFuture.completedFuture(true));
+        when(voterEligibilityService.checkAsync(2L)).thenReturn(CompletableFuture.completedFuture(false));
+
+        assertEquals(Map.of(1L, true, 2L, false), votesService.checkEligibility(Set.of(1L, 2L)));
+    }
+
+    @Test
+    public void testCheckEligibility_SharesOneDeadline() {
+        when(voterEligibilityService.checkAsync(1L)).thenReturn(new CompletableFuture<>());
+        when(voterEligibilityService.checkAsync(2L)).thenReturn(new CompletableFuture<>());
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> votesService.checkEligibility(Set.of(1L, 2L)));
+
+        assertEquals(VotesService.CHECK_TIMEOUT_MESSAGE, exception.getMessage());
+        verify(voterEligibilityService).checkAsync(1L);
+        verify(voterEligibilityService).checkAsync(2L);
+        assertEquals(1.0, rejected("timeout"));
+    }
+
+    @Test
+    public void testRecordOutcomes_UseVoteCounters() {
+        votesService.recordProcessed(VoteStatus.ABLE_TO_VOTE);
+        votesService.recordRejected(RejectionReason.QUEUE_FULL);
 
-        assertTrue(foundExpectedResult, "Should handle existing vote correctly");
-        verify(votesRepository, atLeastOnce()).findByUserIdAndSectionId(anyLong(), anyLong());
+        assertEquals(1.0, meterRegistry.counter("pauta.votes.processed", "status", "ABLE_TO_VOTE").count());
+        assertEquals(1.0, rejected("queue_full"));
     }
-}
\ No newline at end of file
+}